@@ -0,0 +1,46 @@
+package dtm.discovery.benchmark;
+
+import dtm.discovery.finder.ClassFinderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DirectoryLoadBenchmark {
+
+    @Param({"1000", "10000"})
+    public int classCount;
+
+    private String directory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        directory = Fixtures.get(Fixtures.Layout.DIRECTORY, classCount, Fixtures.Density.SPARSE).toString();
+    }
+
+    @Benchmark
+    public int loadByDirectory() {
+        return new ClassFinderService().loadByDirectory(directory).size();
+    }
+
+    @Benchmark
+    public int loadGroupedByDirectory() {
+        return new ClassFinderService().loadGroupedByDirectory(directory).size();
+    }
+}
@@ -0,0 +1,78 @@
+package dtm.discovery.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FindBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int classCount;
+
+    @Param({"JAR", "FAT_JAR", "DIRECTORY"})
+    public Fixtures.Layout layout;
+
+    @Param({"DENSE", "SPARSE"})
+    public Fixtures.Density density;
+
+    private IsolatedFinder finder;
+    private Object warmService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        finder = new IsolatedFinder(Fixtures.get(layout, classCount, density));
+        warmService = finder.newCachedService(IsolatedFinder.CLASS_FINDER_SERVICE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        finder.close();
+    }
+
+    @Benchmark
+    public int classFinderService() throws Exception {
+        return finder.find(finder.newService(IsolatedFinder.CLASS_FINDER_SERVICE), false, scanSubJars()).size();
+    }
+
+    @Benchmark
+    public int classFinderServiceAnnotated() throws Exception {
+        return finder.find(finder.newService(IsolatedFinder.CLASS_FINDER_SERVICE), true, scanSubJars()).size();
+    }
+
+    @Benchmark
+    public int classFinderServiceWarmCache() throws Exception {
+        return finder.find(warmService, false, scanSubJars()).size();
+    }
+
+    @Benchmark
+    public int classFinderProjectService() throws Exception {
+        return finder.find(finder.newService(IsolatedFinder.CLASS_FINDER_PROJECT_SERVICE), false, scanSubJars()).size();
+    }
+
+    @Benchmark
+    public int classFinderProjectServiceAnnotated() throws Exception {
+        return finder.find(finder.newService(IsolatedFinder.CLASS_FINDER_PROJECT_SERVICE), true, scanSubJars()).size();
+    }
+
+    private boolean scanSubJars() {
+        return layout == Fixtures.Layout.FAT_JAR;
+    }
+}
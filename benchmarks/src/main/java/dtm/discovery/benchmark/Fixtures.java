@@ -0,0 +1,253 @@
+package dtm.discovery.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public final class Fixtures {
+
+    public static final String PACKAGE = "fixture";
+    public static final String MARKER = PACKAGE + ".Marker";
+
+    private static final int CLASSES_PER_PACKAGE = 100;
+    private static final int NESTED_JARS = 10;
+
+    public enum Layout { JAR, FAT_JAR, DIRECTORY }
+
+    public enum Density {
+        DENSE(1),
+        SPARSE(100);
+
+        private final int annotateEvery;
+
+        Density(int annotateEvery) {
+            this.annotateEvery = annotateEvery;
+        }
+    }
+
+    private Fixtures() {
+    }
+
+    public static Path get(Layout layout, int classCount, Density density) {
+        Path root = Path.of(System.getProperty("java.io.tmpdir"), "classfinder-bench");
+        String name = layout.name().toLowerCase() + "-" + classCount + "-" + density.name().toLowerCase();
+        Path target = root.resolve(layout == Layout.DIRECTORY ? name : name + ".jar");
+        if (Files.exists(target)) return target;
+
+        try {
+            Files.createDirectories(root);
+            Path temp = Files.createTempDirectory(root, name);
+            Path built = switch (layout) {
+                case JAR -> writeJar(temp.resolve("fixture.jar"), classes(0, classCount, density, true));
+                case FAT_JAR -> writeFatJar(temp.resolve("fixture.jar"), classCount, density);
+                case DIRECTORY -> writeDirectory(temp.resolve("classes"), classes(0, classCount, density, true));
+            };
+            Files.move(built, target, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(temp);
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<Entry> classes(int from, int to, Density density, boolean withMarker) {
+        List<Entry> entries = new ArrayList<>();
+        if (withMarker) entries.add(new Entry(internalName(MARKER) + ".class", markerClass()));
+        for (int i = from; i < to; i++) {
+            String name = PACKAGE + "/m" + (i / 1000) + "/deep/er/still/p" + (i / CLASSES_PER_PACKAGE % 10) + "/C" + i;
+            entries.add(new Entry(name + ".class", plainClass(name, i % density.annotateEvery == 0)));
+        }
+        return entries;
+    }
+
+    private static Path writeJar(Path jar, List<Entry> entries) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(jar)) {
+            writeZip(outputStream, entries, false);
+        }
+        return jar;
+    }
+
+    private static Path writeFatJar(Path jar, int classCount, Density density) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        entries.add(new Entry(internalName(MARKER) + ".class", markerClass()));
+        entries.add(new Entry(PACKAGE + "/Root.class", plainClass(PACKAGE + "/Root", false)));
+
+        int perJar = (classCount + NESTED_JARS - 1) / NESTED_JARS;
+        for (int i = 0; i < NESTED_JARS; i++) {
+            int from = i * perJar;
+            int to = Math.min(classCount, from + perJar);
+            ByteArrayOutputStream nested = new ByteArrayOutputStream();
+            writeZip(nested, classes(from, to, density, false), false);
+            entries.add(new Entry("BOOT-INF/lib/lib-" + i + ".jar", nested.toByteArray()));
+        }
+
+        try (OutputStream outputStream = Files.newOutputStream(jar)) {
+            writeZip(outputStream, entries, true);
+        }
+        return jar;
+    }
+
+    private static Path writeDirectory(Path directory, List<Entry> entries) throws IOException {
+        for (Entry entry : entries) {
+            Path file = directory.resolve(entry.name());
+            Files.createDirectories(file.getParent());
+            Files.write(file, entry.data());
+        }
+        return directory;
+    }
+
+    private static void writeZip(OutputStream outputStream, List<Entry> entries, boolean storeJars) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(outputStream)) {
+            Set<String> directories = new HashSet<>();
+            for (Entry entry : entries) {
+                for (int slash = entry.name().indexOf('/'); slash >= 0; slash = entry.name().indexOf('/', slash + 1)) {
+                    String directory = entry.name().substring(0, slash + 1);
+                    if (directories.add(directory)) {
+                        zip.putNextEntry(new ZipEntry(directory));
+                        zip.closeEntry();
+                    }
+                }
+                ZipEntry zipEntry = new ZipEntry(entry.name());
+                if (storeJars && entry.name().endsWith(".jar")) {
+                    CRC32 crc = new CRC32();
+                    crc.update(entry.data());
+                    zipEntry.setMethod(ZipEntry.STORED);
+                    zipEntry.setSize(entry.data().length);
+                    zipEntry.setCompressedSize(entry.data().length);
+                    zipEntry.setCrc(crc.getValue());
+                }
+                zip.putNextEntry(zipEntry);
+                zip.write(entry.data());
+                zip.closeEntry();
+            }
+        }
+    }
+
+    private static byte[] plainClass(String internalName, boolean annotated) {
+        ConstantPool pool = new ConstantPool();
+        int thisClass = pool.classRef(internalName);
+        int superClass = pool.classRef("java/lang/Object");
+        int attributeName = annotated ? pool.utf8("RuntimeVisibleAnnotations") : 0;
+        int markerType = annotated ? pool.utf8("L" + internalName(MARKER) + ";") : 0;
+
+        return classFile(pool, 0x0021, thisClass, superClass, -1, out -> {
+            if (!annotated) {
+                out.writeShort(0);
+                return;
+            }
+            out.writeShort(1);
+            out.writeShort(attributeName);
+            out.writeInt(6);
+            out.writeShort(1);
+            out.writeShort(markerType);
+            out.writeShort(0);
+        });
+    }
+
+    private static byte[] markerClass() {
+        ConstantPool pool = new ConstantPool();
+        int thisClass = pool.classRef(internalName(MARKER));
+        int superClass = pool.classRef("java/lang/Object");
+        int annotationInterface = pool.classRef("java/lang/annotation/Annotation");
+        int attributeName = pool.utf8("RuntimeVisibleAnnotations");
+        int retention = pool.utf8("Ljava/lang/annotation/Retention;");
+        int value = pool.utf8("value");
+        int policy = pool.utf8("Ljava/lang/annotation/RetentionPolicy;");
+        int runtime = pool.utf8("RUNTIME");
+
+        return classFile(pool, 0x2601, thisClass, superClass, annotationInterface, out -> {
+            out.writeShort(1);
+            out.writeShort(attributeName);
+            out.writeInt(13);
+            out.writeShort(1);
+            out.writeShort(retention);
+            out.writeShort(1);
+            out.writeShort(value);
+            out.writeByte('e');
+            out.writeShort(policy);
+            out.writeShort(runtime);
+        });
+    }
+
+    private static byte[] classFile(ConstantPool pool, int access, int thisClass, int superClass, int anInterface, AttributeWriter attributes) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(52);
+            pool.write(out);
+            out.writeShort(access);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            if (anInterface > 0) {
+                out.writeShort(1);
+                out.writeShort(anInterface);
+            } else {
+                out.writeShort(0);
+            }
+            out.writeShort(0);
+            out.writeShort(0);
+            attributes.write(out);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String internalName(String className) {
+        return className.replace('.', '/');
+    }
+
+    private record Entry(String name, byte[] data) {
+    }
+
+    private interface AttributeWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static final class ConstantPool {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private int count = 1;
+
+        int utf8(String value) {
+            try {
+                out.writeByte(1);
+                out.writeUTF(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return count++;
+        }
+
+        int classRef(String internalName) {
+            int name = utf8(internalName);
+            try {
+                out.writeByte(7);
+                out.writeShort(name);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return count++;
+        }
+
+        void write(DataOutputStream target) throws IOException {
+            target.writeShort(count);
+            bytes.writeTo(target);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package dtm.discovery.benchmark;
+
+import dtm.discovery.finder.ClassFinderService;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+final class IsolatedFinder implements AutoCloseable {
+
+    static final String CLASS_FINDER_SERVICE = "dtm.discovery.finder.ClassFinderService";
+    static final String CLASS_FINDER_PROJECT_SERVICE = "dtm.discovery.finder.simple.ClassFinderProjectService";
+
+    private final URLClassLoader classLoader;
+    private final Class<?> configurationsType;
+    private final Class<?> marker;
+
+    IsolatedFinder(Path fixture) throws Exception {
+        URL library = ClassFinderService.class.getProtectionDomain().getCodeSource().getLocation();
+        this.classLoader = new URLClassLoader(
+                new URL[]{fixture.toUri().toURL(), library},
+                ClassLoader.getPlatformClassLoader()
+        );
+        this.configurationsType = classLoader.loadClass("dtm.discovery.core.ClassFinderConfigurations");
+        this.marker = classLoader.loadClass(Fixtures.MARKER);
+    }
+
+    Object newService(String serviceClass) throws Exception {
+        return classLoader.loadClass(serviceClass).getConstructor().newInstance();
+    }
+
+    Object newCachedService(String serviceClass) throws Exception {
+        Class<?> cacheType = classLoader.loadClass("dtm.discovery.finder.cache.ScanResultCache");
+        Object cache = cacheType.getConstructor().newInstance();
+        return classLoader.loadClass(serviceClass).getConstructor(cacheType).newInstance(cache);
+    }
+
+    Set<?> find(Object service, boolean annotatedOnly, boolean scanSubJars) throws Exception {
+        Object configurations = configurations(Map.of(
+                "getFilterByAnnotation", annotatedOnly ? marker : NO_VALUE,
+                "ignoreSubJars", !scanSubJars,
+                "ignoreMainJar", !scanSubJars
+        ));
+        Method find = service.getClass().getMethod("find", String.class, configurationsType);
+        return call(() -> (Set<?>) find.invoke(service, Fixtures.PACKAGE, configurations));
+    }
+
+    @Override
+    public void close() throws Exception {
+        classLoader.close();
+    }
+
+    private Object configurations(Map<String, Object> overrides) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object value = overrides.get(method.getName());
+            if (value == NO_VALUE) return null;
+            if (value != null) return value;
+            return InvocationHandler.invokeDefault(proxy, method, args);
+        };
+        return Proxy.newProxyInstance(classLoader, new Class<?>[]{configurationsType}, handler);
+    }
+
+    private <T> T call(ThrowingSupplier<T> action) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return action.get();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private static final Object NO_VALUE = new Object();
+
+    private interface ThrowingSupplier<T> {
+        T get() throws Exception;
+    }
+}
@@ -0,0 +1,63 @@
+package dtm.discovery.core;
+
+import java.io.File;
+import java.util.Set;
+
+public final class ClassDelta {
+
+    private final File root;
+    private final Set<Class<?>> added;
+    private final Set<Class<?>> removed;
+    private final Set<Class<?>> changed;
+    private final Set<Class<?>> replaced;
+    private final ScanStatistics statistics;
+
+    public ClassDelta(
+            File root,
+            Set<Class<?>> added,
+            Set<Class<?>> removed,
+            Set<Class<?>> changed,
+            Set<Class<?>> replaced,
+            ScanStatistics statistics
+    ) {
+        this.root = root;
+        this.added = Set.copyOf(added);
+        this.removed = Set.copyOf(removed);
+        this.changed = Set.copyOf(changed);
+        this.replaced = Set.copyOf(replaced);
+        this.statistics = statistics;
+    }
+
+    public File getRoot() {
+        return root;
+    }
+
+    public Set<Class<?>> getAdded() {
+        return added;
+    }
+
+    public Set<Class<?>> getRemoved() {
+        return removed;
+    }
+
+    public Set<Class<?>> getChanged() {
+        return changed;
+    }
+
+    public Set<Class<?>> getReplaced() {
+        return replaced;
+    }
+
+    public ScanStatistics getStatistics() {
+        return statistics;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ClassDelta{root=" + root + ", added=" + added.size() + ", removed=" + removed.size() + ", changed=" + changed.size() + "}";
+    }
+}
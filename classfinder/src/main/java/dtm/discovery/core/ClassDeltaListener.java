@@ -0,0 +1,6 @@
+package dtm.discovery.core;
+
+@FunctionalInterface
+public interface ClassDeltaListener {
+    void onDelta(ClassDelta delta);
+}
@@ -0,0 +1,27 @@
+package dtm.discovery.core;
+
+@FunctionalInterface
+public interface ClassFilter {
+
+    boolean matches(ClassInfo info);
+
+    default boolean matches(Class<?> clazz) {
+        return matches(ClassInfo.of(clazz));
+    }
+
+    default boolean isHeaderEvaluable() {
+        return true;
+    }
+
+    default ClassFilter and(ClassFilter other) {
+        return ClassFilters.allOf(this, other);
+    }
+
+    default ClassFilter or(ClassFilter other) {
+        return ClassFilters.anyOf(this, other);
+    }
+
+    default ClassFilter negate() {
+        return ClassFilters.not(this);
+    }
+}
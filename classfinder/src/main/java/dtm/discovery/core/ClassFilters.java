@@ -0,0 +1,329 @@
+package dtm.discovery.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public final class ClassFilters {
+
+    private static final String RECORD = "java.lang.Record";
+    private static final String NULL_ANNOTATIONS = "Lista de anotações nula";
+
+    private ClassFilters() {
+    }
+
+    public static ClassFilter nameGlob(String glob) {
+        return nameMatches(Pattern.compile(globToRegex(glob)));
+    }
+
+    public static ClassFilter nameMatches(String regex) {
+        return nameMatches(Pattern.compile(regex));
+    }
+
+    public static ClassFilter nameMatches(Pattern pattern) {
+        Objects.requireNonNull(pattern);
+        return info -> pattern.matcher(info.getName()).matches();
+    }
+
+    public static ClassFilter isPublic() {
+        return ClassInfo::isPublic;
+    }
+
+    public static ClassFilter isAbstract() {
+        return info -> info.isAbstract() && !info.isInterface();
+    }
+
+    public static ClassFilter isInterface() {
+        return info -> info.isInterface() && !info.isAnnotation();
+    }
+
+    public static ClassFilter isAnnotation() {
+        return ClassInfo::isAnnotation;
+    }
+
+    public static ClassFilter isEnum() {
+        return ClassInfo::isEnum;
+    }
+
+    public static ClassFilter isRecord() {
+        return info -> RECORD.equals(info.getSuperclassName());
+    }
+
+    public static ClassFilter isConcrete() {
+        return info -> !info.isAbstract() && !info.isInterface();
+    }
+
+    @SafeVarargs
+    public static ClassFilter annotatedWithAny(Class<? extends Annotation>... annotations) {
+        if (annotations == null) throw new NullPointerException(NULL_ANNOTATIONS);
+        List<Class<? extends Annotation>> list = new ArrayList<>(annotations.length);
+        for (Class<? extends Annotation> annotation : annotations) list.add(requireAnnotation(annotation));
+        return new AnnotationFilter(List.copyOf(list), false);
+    }
+
+    @SafeVarargs
+    public static ClassFilter annotatedWithAll(Class<? extends Annotation>... annotations) {
+        if (annotations == null) throw new NullPointerException(NULL_ANNOTATIONS);
+        List<Class<? extends Annotation>> list = new ArrayList<>(annotations.length);
+        for (Class<? extends Annotation> annotation : annotations) list.add(requireAnnotation(annotation));
+        return new AnnotationFilter(List.copyOf(list), true);
+    }
+
+    @SafeVarargs
+    public static ClassFilter stereotypedWith(Class<? extends Annotation>... annotations) {
+        if (annotations == null) throw new NullPointerException(NULL_ANNOTATIONS);
+        List<Class<? extends Annotation>> list = new ArrayList<>(annotations.length);
+        for (Class<? extends Annotation> annotation : annotations) list.add(requireAnnotation(annotation));
+        return new StereotypeFilter(List.copyOf(list));
+    }
+
+    private static Class<? extends Annotation> requireAnnotation(Class<? extends Annotation> annotation) {
+        return Objects.requireNonNull(annotation, "Anotação nula na lista de anotações");
+    }
+
+    public static ClassFilter extendsClass(Class<?> superclass) {
+        String name = superclass.getName();
+        return info -> name.equals(info.getSuperclassName());
+    }
+
+    public static ClassFilter implementsInterface(Class<?> type) {
+        String name = type.getName();
+        return info -> info.getInterfaceNames().contains(name);
+    }
+
+    public static ClassFilter subtypeOf(Class<?> type) {
+        Objects.requireNonNull(type);
+        return new ClassFilter() {
+            @Override
+            public boolean matches(ClassInfo info) {
+                return !info.getName().equals(type.getName());
+            }
+
+            @Override
+            public boolean matches(Class<?> clazz) {
+                return clazz != type && type.isAssignableFrom(clazz);
+            }
+
+            @Override
+            public boolean isHeaderEvaluable() {
+                return false;
+            }
+        };
+    }
+
+    public static ClassFilter fromSource(String term) {
+        Objects.requireNonNull(term);
+        return info -> {
+            URL source = info.getSource();
+            return source != null && source.toExternalForm().contains(term);
+        };
+    }
+
+    public static ClassFilter allOf(ClassFilter... filters) {
+        return new CompositeFilter(List.of(filters), true);
+    }
+
+    public static ClassFilter anyOf(ClassFilter... filters) {
+        return new CompositeFilter(List.of(filters), false);
+    }
+
+    public static ClassFilter not(ClassFilter filter) {
+        Objects.requireNonNull(filter);
+        return new ClassFilter() {
+            @Override
+            public boolean matches(ClassInfo info) {
+                return !filter.isHeaderEvaluable() || !filter.matches(info);
+            }
+
+            @Override
+            public boolean matches(Class<?> clazz) {
+                return !filter.matches(clazz);
+            }
+
+            @Override
+            public boolean isHeaderEvaluable() {
+                return filter.isHeaderEvaluable();
+            }
+        };
+    }
+
+    private static String globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*' && i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                regex.append(".*");
+                i++;
+            } else if (c == '*') {
+                regex.append("[^.]*");
+            } else if (c == '?') {
+                regex.append("[^.]");
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return regex.toString();
+    }
+
+    private static final class AnnotationFilter implements ClassFilter {
+
+        private final List<Class<? extends Annotation>> annotations;
+        private final boolean all;
+        private final boolean headerEvaluable;
+
+        private AnnotationFilter(List<Class<? extends Annotation>> annotations, boolean all) {
+            this.annotations = annotations;
+            this.all = all;
+            this.headerEvaluable = annotations.stream().noneMatch(annotation -> annotation.isAnnotationPresent(Inherited.class));
+        }
+
+        @Override
+        public boolean matches(ClassInfo info) {
+            for (Class<? extends Annotation> annotation : annotations) {
+                boolean present = info.hasAnnotation(annotation) || annotation.isAnnotationPresent(Inherited.class);
+                if (all && !present) return false;
+                if (!all && present) return true;
+            }
+            return all;
+        }
+
+        @Override
+        public boolean matches(Class<?> clazz) {
+            for (Class<? extends Annotation> annotation : annotations) {
+                boolean present = clazz.isAnnotationPresent(annotation);
+                if (all && !present) return false;
+                if (!all && present) return true;
+            }
+            return all;
+        }
+
+        @Override
+        public boolean isHeaderEvaluable() {
+            return headerEvaluable;
+        }
+    }
+
+    private static final class StereotypeFilter implements ClassFilter {
+
+        private static final String ANNOTATION_PACKAGE = "java.lang.annotation.";
+        private static final ClassHeaderReader HEADER_READER = ServiceLoader.load(ClassHeaderReader.class, ClassFilters.class.getClassLoader())
+                .findFirst()
+                .orElse(null);
+
+        private final Set<String> targets;
+        private final Map<String, List<String>> metaAnnotations = new ConcurrentHashMap<>();
+        private final Map<String, Boolean> stereotypes = new ConcurrentHashMap<>();
+
+        private StereotypeFilter(List<Class<? extends Annotation>> annotations) {
+            this.targets = annotations.stream().map(Class::getName).collect(Collectors.toUnmodifiableSet());
+        }
+
+        @Override
+        public boolean matches(ClassInfo info) {
+            if (info.isAnnotation()) {
+                metaAnnotations.putIfAbsent(info.getName(), info.getAnnotationNames());
+                return false;
+            }
+            for (String annotation : info.getAnnotationNames()) {
+                if (isStereotype(annotation, info.getClassLoader())) return true;
+            }
+            return false;
+        }
+
+        private boolean isStereotype(String annotation, ClassLoader classLoader) {
+            if (targets.contains(annotation)) return true;
+            Boolean cached = stereotypes.get(annotation);
+            if (cached != null) return cached;
+
+            boolean stereotype = resolve(annotation, classLoader, new HashSet<>());
+            stereotypes.put(annotation, stereotype);
+            return stereotype;
+        }
+
+        private boolean resolve(String annotation, ClassLoader classLoader, Set<String> visiting) {
+            if (targets.contains(annotation) || Boolean.TRUE.equals(stereotypes.get(annotation))) return true;
+            if (annotation.startsWith(ANNOTATION_PACKAGE) || !visiting.add(annotation)) return false;
+
+            for (String meta : metaAnnotationsOf(annotation, classLoader)) {
+                if (resolve(meta, classLoader, visiting)) {
+                    stereotypes.put(annotation, true);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private List<String> metaAnnotationsOf(String annotation, ClassLoader classLoader) {
+            List<String> known = metaAnnotations.get(annotation);
+            if (known != null) return known;
+            if (HEADER_READER == null) return List.of();
+
+            ClassLoader loader = (classLoader != null) ? classLoader : ClassFilters.class.getClassLoader();
+            List<String> read = List.of();
+            try (InputStream inputStream = loader.getResourceAsStream(annotation.replace('.', '/') + ".class")) {
+                if (inputStream != null) read = HEADER_READER.read(inputStream).getAnnotations();
+            } catch (IOException e) {
+                read = List.of();
+            }
+            List<String> previous = metaAnnotations.putIfAbsent(annotation, read);
+            return (previous != null) ? previous : read;
+        }
+    }
+
+    private static final class CompositeFilter implements ClassFilter {
+
+        private final List<ClassFilter> filters;
+        private final boolean all;
+        private final boolean headerEvaluable;
+
+        private CompositeFilter(List<ClassFilter> filters, boolean all) {
+            this.filters = filters;
+            this.all = all;
+            this.headerEvaluable = filters.stream().allMatch(ClassFilter::isHeaderEvaluable);
+        }
+
+        @Override
+        public boolean matches(ClassInfo info) {
+            for (ClassFilter filter : filters) {
+                boolean matches = filter.matches(info);
+                if (all && !matches) return false;
+                if (!all && matches) return true;
+            }
+            return all;
+        }
+
+        @Override
+        public boolean matches(Class<?> clazz) {
+            ClassInfo info = null;
+            for (ClassFilter filter : filters) {
+                boolean matches;
+                if (filter.isHeaderEvaluable()) {
+                    if (info == null) info = ClassInfo.of(clazz);
+                    matches = filter.matches(info);
+                } else {
+                    matches = filter.matches(clazz);
+                }
+                if (all && !matches) return false;
+                if (!all && matches) return true;
+            }
+            return all;
+        }
+
+        @Override
+        public boolean isHeaderEvaluable() {
+            return headerEvaluable;
+        }
+    }
+}
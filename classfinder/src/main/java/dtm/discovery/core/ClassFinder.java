@@ -0,0 +1,49 @@
+package dtm.discovery.core;
+
+import java.io.File;
+import java.net.URL;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+public interface ClassFinder extends AutoCloseable {
+    Set<Class<?>> find();
+    Set<Class<?>> find(ClassFinderConfigurations configurations);
+    Set<Class<?>> find(Class<?> mainClass);
+    Set<Class<?>> find(Package mainPackage);
+    Set<Class<?>> find(String packageName);
+    Set<Class<?>> find(Class<?> mainClass, ClassFinderConfigurations configurations);
+    Set<Class<?>> find(Package mainPackage, ClassFinderConfigurations configurations);
+    Set<Class<?>> find(String packageName, ClassFinderConfigurations configurations);
+
+    CompletableFuture<Set<Class<?>>> findAsync(String packageName);
+    CompletableFuture<Set<Class<?>>> findAsync(String packageName, ClassFinderConfigurations configurations);
+
+    Set<ClassInfo> findClassInfo(String packageName);
+    Set<ClassInfo> findClassInfo(String packageName, ClassFinderConfigurations configurations);
+
+    Set<Class<?>> findSubtypesOf(Class<?> type);
+    Set<Class<?>> findSubtypesOf(Class<?> type, String packageName);
+    Set<Class<?>> findSubtypesOf(Class<?> type, String packageName, ClassFinderConfigurations configurations);
+
+    Set<Class<?>> findImplementationsOf(Class<?> type);
+    Set<Class<?>> findImplementationsOf(Class<?> type, String packageName);
+    Set<Class<?>> findImplementationsOf(Class<?> type, String packageName, ClassFinderConfigurations configurations);
+
+    Flow.Publisher<Class<?>> publish(String packageName);
+    Flow.Publisher<Class<?>> publish(String packageName, ClassFinderConfigurations configurations);
+
+    Set<Class<?>> loadByDirectory(String path);
+    Set<Class<?>> loadByDirectory(String path, ClassFinderConfigurations configurations);
+
+    Map<File, Set<Class<?>>> loadGroupedByDirectory(String path);
+    Map<File, Set<Class<?>>> loadGroupedByDirectory(String path, ClassFinderConfigurations configurations);
+
+    ClassWatcher watchDirectory(String path, ClassDeltaListener listener);
+    ClassWatcher watchDirectory(String path, ClassFinderConfigurations configurations, ClassDeltaListener listener);
+
+    Set<Class<?>> getLoadedClasses();
+
+    ScanStatistics getLastScanStatistics();
+}
@@ -3,6 +3,8 @@ package dtm.discovery.core;
 import dtm.discovery.stereotips.ClassFinderStereotips;
 
 import java.lang.annotation.Annotation;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
@@ -30,6 +32,10 @@ public interface ClassFinderConfigurations {
         return null;
     }
 
+    default ClassFilter getClassFilter(){
+        return null;
+    }
+
     default boolean ignoreSubJars(){return true;}
 
     default boolean ignoreMainJar(){return true;}
@@ -41,4 +47,32 @@ public interface ClassFinderConfigurations {
     default List<String> getIgnoreJarsTerms(){
         return new ArrayList<>();
     }
+
+    default Path getScanCacheDirectory(){
+        return null;
+    }
+
+    default ScanExecutorType getScanExecutorType(){
+        return ScanExecutorType.VIRTUAL;
+    }
+
+    default int getScanParallelism(){
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    default int getScanBatchSize(){
+        return 256;
+    }
+
+    default Duration getScanTimeout(){
+        return null;
+    }
+
+    default ScanMetricsSink getMetricsSink(){
+        return null;
+    }
+
+    default Duration getWatchDebounce(){
+        return Duration.ofMillis(200);
+    }
 }
@@ -0,0 +1,9 @@
+package dtm.discovery.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@FunctionalInterface
+public interface ClassHeaderReader {
+    ClassHeaderView read(InputStream inputStream) throws IOException;
+}
@@ -0,0 +1,12 @@
+package dtm.discovery.core;
+
+import java.util.List;
+
+public interface ClassHeaderView {
+
+    String getName();
+    int getAccessFlags();
+    String getSuperName();
+    List<String> getInterfaces();
+    List<String> getAnnotations();
+}
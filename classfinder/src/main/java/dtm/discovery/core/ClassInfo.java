@@ -0,0 +1,173 @@
+package dtm.discovery.core;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public final class ClassInfo {
+
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ANNOTATION = 0x2000;
+    private static final int ACC_ENUM = 0x4000;
+
+    private final String name;
+    private final int modifiers;
+    private final String superclassName;
+    private final List<String> interfaceNames;
+    private final List<String> annotationNames;
+    private final URL source;
+    private final ClassLoader classLoader;
+    private volatile Class<?> loadedClass;
+
+    public ClassInfo(
+            String name,
+            int modifiers,
+            String superclassName,
+            List<String> interfaceNames,
+            List<String> annotationNames,
+            URL source,
+            ClassLoader classLoader
+    ) {
+        this.name = Objects.requireNonNull(name);
+        this.modifiers = modifiers;
+        this.superclassName = superclassName;
+        this.interfaceNames = List.copyOf(interfaceNames);
+        this.annotationNames = List.copyOf(annotationNames);
+        this.source = source;
+        this.classLoader = classLoader;
+    }
+
+    public static ClassInfo of(Class<?> clazz) {
+        int modifiers = clazz.getModifiers();
+        if (clazz.isInterface()) modifiers |= ACC_INTERFACE;
+        if (clazz.isAnnotation()) modifiers |= ACC_ANNOTATION;
+        if (clazz.isEnum()) modifiers |= ACC_ENUM;
+
+        List<String> interfaceNames = new ArrayList<>();
+        for (Class<?> type : clazz.getInterfaces()) {
+            interfaceNames.add(type.getName());
+        }
+        List<String> annotationNames = new ArrayList<>();
+        for (Annotation annotation : clazz.getDeclaredAnnotations()) {
+            annotationNames.add(annotation.annotationType().getName());
+        }
+
+        ClassInfo info = new ClassInfo(
+                clazz.getName(),
+                modifiers,
+                (clazz.getSuperclass() != null) ? clazz.getSuperclass().getName() : null,
+                interfaceNames,
+                annotationNames,
+                sourceOf(clazz),
+                clazz.getClassLoader()
+        );
+        info.loadedClass = clazz;
+        return info;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSimpleName() {
+        String simpleName = name.substring(name.lastIndexOf('.') + 1);
+        return simpleName.substring(simpleName.lastIndexOf('$') + 1);
+    }
+
+    public String getPackageName() {
+        int index = name.lastIndexOf('.');
+        return (index < 0) ? "" : name.substring(0, index);
+    }
+
+    public int getModifiers() {
+        return modifiers;
+    }
+
+    public String getSuperclassName() {
+        return superclassName;
+    }
+
+    public List<String> getInterfaceNames() {
+        return interfaceNames;
+    }
+
+    public List<String> getAnnotationNames() {
+        return annotationNames;
+    }
+
+    public URL getSource() {
+        return source;
+    }
+
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    public boolean hasAnnotation(Class<? extends Annotation> annotation) {
+        return annotation != null && annotationNames.contains(annotation.getName());
+    }
+
+    public boolean isPublic() {
+        return Modifier.isPublic(modifiers);
+    }
+
+    public boolean isAbstract() {
+        return Modifier.isAbstract(modifiers);
+    }
+
+    public boolean isInterface() {
+        return (modifiers & ACC_INTERFACE) != 0;
+    }
+
+    public boolean isAnnotation() {
+        return (modifiers & ACC_ANNOTATION) != 0;
+    }
+
+    public boolean isEnum() {
+        return (modifiers & ACC_ENUM) != 0;
+    }
+
+    public boolean isLoaded() {
+        return loadedClass != null;
+    }
+
+    public Class<?> load() throws ClassNotFoundException {
+        Class<?> clazz = loadedClass;
+        if (clazz == null) {
+            ClassLoader loader = (classLoader != null) ? classLoader : ClassInfo.class.getClassLoader();
+            clazz = Class.forName(name, false, loader);
+            loadedClass = clazz;
+        }
+        return clazz;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ClassInfo that)) return false;
+        return name.equals(that.name) && Objects.equals(sourceKey(), that.sourceKey());
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    private static URL sourceOf(Class<?> clazz) {
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        return (codeSource != null) ? codeSource.getLocation() : null;
+    }
+
+    private String sourceKey() {
+        return (source != null) ? source.toExternalForm() : null;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,15 @@
+package dtm.discovery.core;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Set;
+
+public interface ClassWatcher extends AutoCloseable {
+
+    File getRoot();
+    Map<File, Set<Class<?>>> getSnapshot();
+    boolean isClosed();
+
+    @Override
+    void close();
+}
@@ -2,6 +2,7 @@ package dtm.discovery.core;
 
 import dtm.discovery.stereotips.ClassFinderStereotips;
 
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -11,4 +12,12 @@ public interface Processor {
     void onError(Consumer<Throwable> action);
     void acept(Predicate<ClassFinderStereotips> acept);
 
+    void collectClassInfo(Set<ClassInfo> classInfos);
+
+    default void useScheduler(ScanExecutor scheduler) {
+    }
+
+    default void recordStatistics(ScanStatistics statistics) {
+    }
+
 }
@@ -0,0 +1,23 @@
+package dtm.discovery.core;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+public interface ScanExecutor {
+
+    ScanExecutorType getExecutorType();
+    int getParallelism();
+    int getBatchSize();
+    boolean isCancelled();
+
+    <T> void forEach(List<T> items, Consumer<? super T> action);
+    <T> void forEach(List<T> items, int batchSize, Consumer<? super T> action);
+    <T> void forEach(List<T> items, int batchSize, Consumer<? super T> action, ScanStatistics.SourceStatistics source);
+    void forEach(int count, IntConsumer action);
+    void forEach(int count, int batchSize, IntConsumer action);
+    void forEach(int count, int batchSize, IntConsumer action, ScanStatistics.SourceStatistics source);
+
+    <T> void walk(T root, BiConsumer<? super T, Consumer<T>> action, ScanStatistics.SourceStatistics source);
+}
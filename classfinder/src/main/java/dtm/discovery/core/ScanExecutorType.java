@@ -0,0 +1,7 @@
+package dtm.discovery.core;
+
+public enum ScanExecutorType {
+    PLATFORM,
+    VIRTUAL,
+    CALLER_RUNS
+}
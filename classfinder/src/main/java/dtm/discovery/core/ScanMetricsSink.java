@@ -0,0 +1,6 @@
+package dtm.discovery.core;
+
+@FunctionalInterface
+public interface ScanMetricsSink {
+    void onScanCompleted(ScanStatistics statistics);
+}
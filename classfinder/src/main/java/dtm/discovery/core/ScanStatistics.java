@@ -0,0 +1,226 @@
+package dtm.discovery.core;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ScanStatistics {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final ThreadLocal<CpuFrame> CPU_FRAME = new ThreadLocal<>();
+
+    private final String packageName;
+    private final LongAdder archivesOpened = new LongAdder();
+    private final LongAdder archivesDeduplicated = new LongAdder();
+    private final LongAdder directoriesVisited = new LongAdder();
+    private final LongAdder entriesVisited = new LongAdder();
+    private final LongAdder entriesIgnored = new LongAdder();
+    private final LongAdder classesLoaded = new LongAdder();
+    private final Map<String, LongAdder> loadFailures = new ConcurrentHashMap<>();
+    private final Map<String, SourceStatistics> sources = new ConcurrentHashMap<>();
+    private final long startNanos;
+    private volatile long endNanos;
+    private volatile boolean cancelled;
+
+    public ScanStatistics() {
+        this("");
+    }
+
+    public ScanStatistics(String packageName) {
+        this.packageName = (packageName != null) ? packageName : "";
+        this.startNanos = System.nanoTime();
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public void archiveOpened() {
+        archivesOpened.increment();
+    }
+
+    public void archiveDeduplicated() {
+        archivesDeduplicated.increment();
+    }
+
+    public void directoryVisited() {
+        directoriesVisited.increment();
+    }
+
+    public void entriesVisited(long count) {
+        entriesVisited.add(count);
+    }
+
+    public void entryIgnored() {
+        entriesIgnored.increment();
+    }
+
+    public void classLoaded() {
+        classesLoaded.increment();
+    }
+
+    public void loadFailed(Throwable error) {
+        loadFailures.computeIfAbsent(error.getClass().getName(), k -> new LongAdder()).increment();
+    }
+
+    public SourceStatistics source(String source) {
+        return sources.computeIfAbsent(source, SourceStatistics::new);
+    }
+
+    public void markCancelled() {
+        cancelled = true;
+    }
+
+    public void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public long getArchivesOpened() {
+        return archivesOpened.sum();
+    }
+
+    public long getArchivesDeduplicated() {
+        return archivesDeduplicated.sum();
+    }
+
+    public long getDirectoriesVisited() {
+        return directoriesVisited.sum();
+    }
+
+    public long getEntriesVisited() {
+        return entriesVisited.sum();
+    }
+
+    public long getEntriesIgnored() {
+        return entriesIgnored.sum();
+    }
+
+    public long getClassesLoaded() {
+        return classesLoaded.sum();
+    }
+
+    public long getLoadFailures() {
+        return loadFailures.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public Map<String, Long> getLoadFailuresByType() {
+        Map<String, Long> failures = new TreeMap<>();
+        loadFailures.forEach((type, count) -> failures.put(type, count.sum()));
+        return failures;
+    }
+
+    public Map<String, SourceStatistics> getSources() {
+        return new TreeMap<>(sources);
+    }
+
+    public Duration getWallTime() {
+        long end = (endNanos != 0) ? endNanos : System.nanoTime();
+        return Duration.ofNanos(end - startNanos);
+    }
+
+    public Map<String, Long> toMap() {
+        Map<String, Long> values = new LinkedHashMap<>();
+        values.put("archives.opened", getArchivesOpened());
+        values.put("archives.deduplicated", getArchivesDeduplicated());
+        values.put("directories.visited", getDirectoriesVisited());
+        values.put("entries.visited", getEntriesVisited());
+        values.put("entries.ignored", getEntriesIgnored());
+        values.put("classes.loaded", getClassesLoaded());
+        values.put("load.failures", getLoadFailures());
+        getLoadFailuresByType().forEach((type, count) -> values.put("load.failures." + type, count));
+        values.put("wall.nanos", getWallTime().toNanos());
+        values.put("cancelled", cancelled ? 1L : 0L);
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return "ScanStatistics" + toMap();
+    }
+
+    private static long currentThreadCpuTime() {
+        if (Thread.currentThread().isVirtual() || !THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()) return -1;
+        return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    }
+
+    public static final class SourceStatistics {
+
+        private final String source;
+        private final LongAdder wallNanos = new LongAdder();
+        private final LongAdder cpuNanos = new LongAdder();
+        private final LongAdder cpuSamples = new LongAdder();
+
+        private SourceStatistics(String source) {
+            this.source = source;
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public void addWallTime(long nanos) {
+            wallNanos.add(nanos);
+        }
+
+        public void startCpu() {
+            long now = currentThreadCpuTime();
+            if (now < 0) return;
+            CpuFrame parent = CPU_FRAME.get();
+            if (parent != null) parent.pause(now);
+            CPU_FRAME.set(new CpuFrame(this, now, parent));
+        }
+
+        public void stopCpu() {
+            CpuFrame frame = CPU_FRAME.get();
+            if (frame == null || frame.source != this) return;
+            long now = currentThreadCpuTime();
+            frame.pause(now);
+            cpuSamples.increment();
+            if (frame.parent != null) {
+                frame.parent.start = now;
+                CPU_FRAME.set(frame.parent);
+            } else {
+                CPU_FRAME.remove();
+            }
+        }
+
+        public Duration getWallTime() {
+            return Duration.ofNanos(wallNanos.sum());
+        }
+
+        public Duration getCpuTime() {
+            return (cpuSamples.sum() == 0) ? null : Duration.ofNanos(cpuNanos.sum());
+        }
+
+        @Override
+        public String toString() {
+            return source + " wall=" + getWallTime() + " cpu=" + getCpuTime();
+        }
+    }
+
+    private static final class CpuFrame {
+        private final SourceStatistics source;
+        private final CpuFrame parent;
+        private long start;
+
+        private CpuFrame(SourceStatistics source, long start, CpuFrame parent) {
+            this.source = source;
+            this.start = start;
+            this.parent = parent;
+        }
+
+        private void pause(long now) {
+            source.cpuNanos.add(now - start);
+            start = now;
+        }
+    }
+}
@@ -0,0 +1,498 @@
+package dtm.discovery.finder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import dtm.discovery.core.ClassDeltaListener;
+import dtm.discovery.core.ClassFinder;
+import dtm.discovery.core.ClassFinderConfigurations;
+import dtm.discovery.core.ClassFinderErrorHandler;
+import dtm.discovery.core.ClassInfo;
+import dtm.discovery.core.ClassWatcher;
+import dtm.discovery.core.Processor;
+import dtm.discovery.core.ScanMetricsSink;
+import dtm.discovery.core.ScanStatistics;
+import dtm.discovery.finder.config.CompiledConfigurations;
+import dtm.discovery.finder.graph.InheritanceGraph;
+import dtm.discovery.finder.jfr.ScanEvent;
+import dtm.discovery.finder.index.ClassIndex;
+import dtm.discovery.finder.processor.ModuleProcessor;
+import dtm.discovery.finder.processor.SimpleDirectoryProcessor;
+import dtm.discovery.finder.scheduler.ScanScheduler;
+import dtm.discovery.finder.stream.ClassPublisher;
+import dtm.discovery.finder.watch.DirectoryWatcher;
+import dtm.discovery.stereotips.ClassFinderStereotips;
+
+public abstract class AbstractClassFinderService implements ClassFinder {
+    private ClassFinderErrorHandler errorHandlers;
+    private Predicate<ClassFinderStereotips> scanAcepptHandler;
+    private final Set<Class<?>> classesLoaded;
+    private final InheritanceGraph inheritanceGraph = new InheritanceGraph();
+    private volatile ScanStatistics lastScanStatistics;
+
+    protected AbstractClassFinderService(ClassFinderErrorHandler errorHandlers, Predicate<ClassFinderStereotips> scanAcepptHandler) {
+        this.errorHandlers = errorHandlers;
+        this.scanAcepptHandler = scanAcepptHandler;
+        this.classesLoaded = ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public Set<Class<?>> find() {
+        return find(new ClassFinderConfigurations() {});
+    }
+
+    @Override
+    public Set<Class<?>> find(ClassFinderConfigurations configurations) {
+        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
+        Class<?> callingClass = getClass();
+        for (StackTraceElement stackTraceElement : stackTrace) {
+            if (stackTraceElement.getMethodName().equalsIgnoreCase("main")) {
+                String callingClassName = stackTraceElement.getClassName();
+                try {
+                    callingClass = Class.forName(callingClassName);
+                } catch (ClassNotFoundException e) {
+                    executeErrorHandler(e);
+                }
+                break;
+            }
+        }
+        return find(callingClass, configurations);
+    }
+
+    @Override
+    public Set<Class<?>> find(Class<?> mainClass) {
+        Package packageMain = mainClass.getPackage();
+        return find(packageMain);
+    }
+
+    @Override
+    public Set<Class<?>> find(Package mainPackage) {
+        return find(mainPackage.getName());
+    }
+
+    @Override
+    public Set<Class<?>> find(String packageName) {
+        return find(packageName, new ClassFinderConfigurations() {});
+    }
+
+    @Override
+    public Set<Class<?>> find(Class<?> mainClass, ClassFinderConfigurations configurations) {
+        return find(mainClass.getPackage(), configurations);
+    }
+
+    @Override
+    public Set<Class<?>> find(Package mainPackage, ClassFinderConfigurations configurations) {
+        return find(mainPackage.getName(), configurations);
+    }
+
+    @Override
+    public Set<Class<?>> find(String packageName, ClassFinderConfigurations configurations) {
+        try {
+            return encontrarClassesNoPacote(packageName, configurations);
+        } catch (Exception e) {
+            return new HashSet<>();
+        }
+    }
+
+    @Override
+    public Set<ClassInfo> findClassInfo(String packageName) {
+        return findClassInfo(packageName, new ClassFinderConfigurations() {});
+    }
+
+    @Override
+    public Set<ClassInfo> findClassInfo(String packageName, ClassFinderConfigurations configurations) {
+        Set<ClassInfo> classInfos = ConcurrentHashMap.newKeySet();
+        try {
+            encontrarClassesNoPacote(packageName, configurations, ConcurrentHashMap.newKeySet(), classInfos);
+        } catch (Exception e) {
+            executeErrorHandler(e);
+        }
+        return classInfos;
+    }
+
+    @Override
+    public Set<Class<?>> findSubtypesOf(Class<?> type) {
+        return findSubtypesOf(type, type.getPackageName());
+    }
+
+    @Override
+    public Set<Class<?>> findSubtypesOf(Class<?> type, String packageName) {
+        return findSubtypesOf(type, packageName, new ClassFinderConfigurations() {});
+    }
+
+    @Override
+    public Set<Class<?>> findSubtypesOf(Class<?> type, String packageName, ClassFinderConfigurations configurations) {
+        return encontrarSubtipos(type, packageName, configurations, false);
+    }
+
+    @Override
+    public Set<Class<?>> findImplementationsOf(Class<?> type) {
+        return findImplementationsOf(type, type.getPackageName());
+    }
+
+    @Override
+    public Set<Class<?>> findImplementationsOf(Class<?> type, String packageName) {
+        return findImplementationsOf(type, packageName, new ClassFinderConfigurations() {});
+    }
+
+    @Override
+    public Set<Class<?>> findImplementationsOf(Class<?> type, String packageName, ClassFinderConfigurations configurations) {
+        return encontrarSubtipos(type, packageName, configurations, true);
+    }
+
+    @Override
+    public Flow.Publisher<Class<?>> publish(String packageName) {
+        return publish(packageName, new ClassFinderConfigurations() {});
+    }
+
+    @Override
+    public Flow.Publisher<Class<?>> publish(String packageName, ClassFinderConfigurations configurations) {
+        return new ClassPublisher(classes -> encontrarClassesNoPacote(packageName, configurations, classes, null));
+    }
+
+    @Override
+    public CompletableFuture<Set<Class<?>>> findAsync(String packageName) {
+        return findAsync(packageName, new ClassFinderConfigurations() {});
+    }
+
+    @Override
+    public CompletableFuture<Set<Class<?>>> findAsync(String packageName, ClassFinderConfigurations configurations) {
+        CompiledConfigurations compiledConfigurations = CompiledConfigurations.of(configurations);
+        Set<Class<?>> classes = ConcurrentHashMap.newKeySet();
+        ScanScheduler scheduler = ScanScheduler.of(compiledConfigurations);
+        CompletableFuture<Set<Class<?>>> future = new CompletableFuture<>();
+        future.whenComplete((result, error) -> scheduler.cancel());
+
+        Duration timeout = compiledConfigurations.getScanTimeout();
+        if (timeout != null) {
+            CompletableFuture.delayedExecutor(timeout.toNanos(), TimeUnit.NANOSECONDS)
+                    .execute(() -> future.complete(new HashSet<>(classes)));
+        }
+
+        scheduler.runAsync(() -> {
+            try {
+                future.complete(encontrarClassesNoPacote(packageName, compiledConfigurations, classes, null, scheduler));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                scheduler.close();
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public Set<Class<?>> loadByDirectory(String path) {
+        return loadByDirectory(path, null);
+    }
+
+    @Override
+    public Set<Class<?>> loadByDirectory(String path, ClassFinderConfigurations configurations) {
+        File rootDir = new File(path);
+        Map<File, Set<Class<?>>> classesMap = new ConcurrentHashMap<>();
+        Set<Class<?>> classesSet = ConcurrentHashMap.newKeySet();
+        ScanStatistics statistics = new ScanStatistics(path);
+        ScanEvent scanEvent = ScanEvent.start();
+        try(ScanScheduler scheduler = ScanScheduler.of(configurations)){
+            cancelOnTimeout(scheduler, configurations);
+            configureConfigurations(configurations);
+            Processor processor = new SimpleDirectoryProcessor(rootDir, classesMap);
+
+            processor.onError(this::executeErrorHandler);
+            processor.useScheduler(scheduler);
+            processor.recordStatistics(statistics);
+            processor.acept((configurations != null) ? configurations.getAceptHandler() : null);
+            processor.execute();
+            classesMap.values().forEach(classesSet::addAll);
+
+            this.classesLoaded.addAll(classesSet);
+        }catch (Exception e){
+            executeErrorHandler(e);
+        }
+        scanEvent.end(path, (configurations != null) ? configurations.getScanExecutorType() : null, classesSet.size(), statistics);
+        publishStatistics(statistics, configurations);
+        return classesSet;
+    }
+
+    @Override
+    public Map<File, Set<Class<?>>> loadGroupedByDirectory(String path) {
+        return loadGroupedByDirectory(path, null);
+    }
+
+    @Override
+    public Map<File, Set<Class<?>>> loadGroupedByDirectory(String path, ClassFinderConfigurations configurations) {
+        File rootDir = new File(path);
+        Map<File, Set<Class<?>>> classesMap = new ConcurrentHashMap<>();
+        ScanStatistics statistics = new ScanStatistics(path);
+        ScanEvent scanEvent = ScanEvent.start();
+        try(ScanScheduler scheduler = ScanScheduler.of(configurations)){
+            cancelOnTimeout(scheduler, configurations);
+            configureConfigurations(configurations);
+            Processor processor = new SimpleDirectoryProcessor(rootDir, classesMap);
+
+            processor.onError(this::executeErrorHandler);
+            processor.useScheduler(scheduler);
+            processor.recordStatistics(statistics);
+            processor.acept((configurations != null) ? configurations.getAceptHandler() : null);
+            processor.execute();
+
+            classesMap.values().forEach(this.classesLoaded::addAll);
+        }catch (Exception e){
+            executeErrorHandler(e);
+        }
+
+        scanEvent.end(path, (configurations != null) ? configurations.getScanExecutorType() : null, classesMap.values().stream().mapToInt(Set::size).sum(), statistics);
+        publishStatistics(statistics, configurations);
+        return classesMap;
+    }
+
+    @Override
+    public ClassWatcher watchDirectory(String path, ClassDeltaListener listener) {
+        return watchDirectory(path, null, listener);
+    }
+
+    @Override
+    public ClassWatcher watchDirectory(String path, ClassFinderConfigurations configurations, ClassDeltaListener listener) {
+        try {
+            return DirectoryWatcher.start(new File(path), configurations, delta -> {
+                this.classesLoaded.removeAll(delta.getRemoved());
+                this.classesLoaded.removeAll(delta.getReplaced());
+                this.classesLoaded.addAll(delta.getAdded());
+                this.classesLoaded.addAll(delta.getChanged());
+                publishStatistics(delta.getStatistics(), configurations);
+                if (listener != null) listener.onDelta(delta);
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Set<Class<?>> getLoadedClasses() {
+        return this.classesLoaded;
+    }
+
+    @Override
+    public ScanStatistics getLastScanStatistics() {
+        return this.lastScanStatistics;
+    }
+
+    @Override
+    public void close() throws Exception {
+        this.errorHandlers = null;
+        this.scanAcepptHandler = null;
+        this.classesLoaded.clear();
+        this.lastScanStatistics = null;
+        this.inheritanceGraph.clear();
+    }
+
+    protected abstract Processor createJarProcessor(URL jarUrl, ClassIndex index, Set<Class<?>> classes, Set<String> jarProcessed, String pacote, ClassFinderConfigurations configurations);
+
+    protected abstract Processor createDirectoryProcessor(URL resource, ClassIndex index, Set<Class<?>> classes, String pacote, ClassFinderConfigurations configurations);
+
+    protected abstract Processor createClasspathProcessor(Set<Class<?>> classes, Set<String> jarProcessed, Set<String> scannedRoots, String pacote, ClassFinderConfigurations configurations);
+
+    protected Map<String, ClassIndex> loadIndexes() throws Exception {
+        return Map.of();
+    }
+
+    private Set<Class<?>> encontrarClassesNoPacote(String pacote, ClassFinderConfigurations configurations) {
+        return encontrarClassesNoPacote(pacote, configurations, ConcurrentHashMap.newKeySet(), null);
+    }
+
+    private Set<Class<?>> encontrarClassesNoPacote(String pacote, ClassFinderConfigurations configurations, Set<Class<?>> classes, Set<ClassInfo> classInfos) {
+        CompiledConfigurations compiledConfigurations = CompiledConfigurations.of(configurations);
+        try (ScanScheduler scheduler = ScanScheduler.of(compiledConfigurations)) {
+            cancelOnTimeout(scheduler, compiledConfigurations);
+            return encontrarClassesNoPacote(pacote, compiledConfigurations, classes, classInfos, scheduler);
+        }
+    }
+
+    private Set<Class<?>> encontrarClassesNoPacote(String pacote, ClassFinderConfigurations configurations, Set<Class<?>> classes, Set<ClassInfo> classInfos, ScanScheduler scheduler) {
+        final ClassFinderConfigurations configurationsFinal = configureConfigurations(configurations);
+        AtomicBoolean atomicBoolean = new AtomicBoolean(false);
+
+        Set<String> jarProcessed = ConcurrentHashMap.newKeySet();
+        Set<String> scannedRoots = ConcurrentHashMap.newKeySet();
+        ScanStatistics statistics = new ScanStatistics(pacote);
+        ScanEvent scanEvent = ScanEvent.start();
+        String path = pacote.replace('.', '/');
+
+        try {
+            Map<String, ClassIndex> indexes = loadIndexes();
+            List<URL> resources = Collections.list(getResourcesEnumeration(path));
+            scheduler.forEach(resources, 1, resource -> {
+               final String protocol = resource.getProtocol();
+               try{
+                   if(!scanAcepptHandler.test(new ClassFinderStereotips() {
+                       @Override
+                       public URL getArchiverUrl() {
+                           return resource;
+                       }
+
+                       @Override
+                       public StereotipsProtocols getArchiverProtocol() {
+                           return ("jar".equalsIgnoreCase(protocol)) ? StereotipsProtocols.JAR : StereotipsProtocols.FILE;
+                       }
+                   })) return;
+
+                   String rootKey = getRootKey(resource, path);
+                   scannedRoots.add(rootKey);
+                   ClassIndex index = indexes.get(rootKey);
+                   switch (protocol){
+                       case "jar" -> {
+                           if (jarProcessed.add(resource.getFile())) {
+                                Processor processor = createJarProcessor(getJarByUrl(resource), index, classes, jarProcessed, pacote, configurationsFinal);
+                                processor.onError(this::executeErrorHandler);
+                                processor.acept(scanAcepptHandler);
+                                processor.collectClassInfo(classInfos);
+                                processor.useScheduler(scheduler);
+                                processor.recordStatistics(statistics);
+                                processor.execute();
+                           }
+                           break;
+                       }
+                       case "file" -> {
+                           atomicBoolean.set(true);
+                           Processor processor = createDirectoryProcessor(resource, index, classes, pacote, configurationsFinal);
+                           processor.onError(this::executeErrorHandler);
+                           processor.acept(scanAcepptHandler);
+                           processor.collectClassInfo(classInfos);
+                           processor.useScheduler(scheduler);
+                           processor.recordStatistics(statistics);
+                           processor.execute();
+                           break;
+                       }
+                       default -> {
+                           break;
+                       }
+                   }
+               }catch (Exception e){
+                   executeErrorHandler(e);
+               }
+            });
+
+            if (!pacote.isEmpty()) {
+                Processor processor = new ModuleProcessor(getModuleLayer(), classes, scannedRoots, pacote, configurationsFinal);
+                processor.onError(this::executeErrorHandler);
+                processor.acept(scanAcepptHandler);
+                processor.collectClassInfo(classInfos);
+                processor.useScheduler(scheduler);
+                processor.recordStatistics(statistics);
+                processor.execute();
+            }
+
+            if(atomicBoolean.get()){
+                Processor processor = createClasspathProcessor(classes, jarProcessed, scannedRoots, pacote, configurationsFinal);
+                processor.onError(this::executeErrorHandler);
+                processor.collectClassInfo(classInfos);
+                processor.useScheduler(scheduler);
+                processor.recordStatistics(statistics);
+                processor.execute();
+            }
+
+        } catch (Exception e) {
+            executeErrorHandler(e);
+        }
+        if (scheduler.isCancelled()) statistics.markCancelled();
+        scanEvent.end(pacote, configurationsFinal.getScanExecutorType(), (classInfos != null) ? classInfos.size() : classes.size(), statistics);
+        publishStatistics(statistics, configurationsFinal);
+        classesLoaded.addAll(classes);
+        return classes;
+    }
+
+    private Set<Class<?>> encontrarSubtipos(Class<?> type, String packageName, ClassFinderConfigurations configurations, boolean concreteOnly) {
+        Set<Class<?>> classes = ConcurrentHashMap.newKeySet();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Set<ClassInfo> classInfos = findClassInfo(packageName, configurations);
+        classInfos.forEach(inheritanceGraph::register);
+
+        for (ClassInfo classInfo : classInfos) {
+            if (concreteOnly && (classInfo.isInterface() || classInfo.isAbstract())) continue;
+            if (!inheritanceGraph.isSubtypeOf(classInfo.getName(), type.getName(), classLoader)) continue;
+            try {
+                classes.add(classInfo.load());
+            } catch (ClassNotFoundException | LinkageError e) {
+                executeErrorHandler(e);
+            }
+        }
+
+        classesLoaded.addAll(classes);
+        return classes;
+    }
+
+    private ClassFinderConfigurations configureConfigurations(ClassFinderConfigurations configurations){
+        if(configurations != null){
+            this.errorHandlers = (configurations.getErrorHandler() != null) ? configurations.getErrorHandler() : (e) -> {};
+            this.scanAcepptHandler = (configurations.getAceptHandler() != null) ? configurations.getAceptHandler() : (e) -> true;
+        }else{
+            this.errorHandlers = (e) -> {};
+            this.scanAcepptHandler = (e) -> true;
+        }
+
+        return CompiledConfigurations.of(configurations);
+    }
+
+    private void cancelOnTimeout(ScanScheduler scheduler, ClassFinderConfigurations configurations) {
+        Duration timeout = (configurations != null) ? configurations.getScanTimeout() : null;
+        if (timeout == null) return;
+        CompletableFuture.delayedExecutor(timeout.toNanos(), TimeUnit.NANOSECONDS).execute(scheduler::cancel);
+    }
+
+    private void publishStatistics(ScanStatistics statistics, ClassFinderConfigurations configurations) {
+        statistics.finish();
+        this.lastScanStatistics = statistics;
+        ScanMetricsSink metricsSink = (configurations != null) ? configurations.getMetricsSink() : null;
+        if (metricsSink == null) return;
+        try {
+            metricsSink.onScanCompleted(statistics);
+        } catch (Exception e) {
+            executeErrorHandler(e);
+        }
+    }
+
+    protected void executeErrorHandler(Throwable th) {
+        if (this.errorHandlers != null) {
+            this.errorHandlers.onScanError(th);
+        }
+    }
+
+    protected Enumeration<URL> getResourcesEnumeration(String path) throws Exception{
+        return getResourcesEnumeration(getClass(), path);
+    }
+
+    private Enumeration<URL> getResourcesEnumeration(Class<?> clazz, String path) throws Exception {
+        ClassLoader classLoader = clazz.getClassLoader();
+        return classLoader.getResources(path);
+    }
+
+    protected String getRootKey(URL resource, String path) throws Exception {
+        if ("jar".equalsIgnoreCase(resource.getProtocol())) {
+            return getJarByUrl(resource).toExternalForm();
+        }
+        String root = resource.toExternalForm();
+        if (root.endsWith("/")) root = root.substring(0, root.length() - 1);
+        if (root.endsWith(path)) root = root.substring(0, root.length() - path.length());
+        return root.endsWith("/") ? root : root + "/";
+    }
+
+    private ModuleLayer getModuleLayer() {
+        ModuleLayer layer = getClass().getModule().getLayer();
+        return (layer != null) ? layer : ModuleLayer.boot();
+    }
+
+    protected URL getJarByUrl(URL resource) throws Exception{
+        String path = resource.getPath();
+        String jarPath = path.substring(path.indexOf("file:"), path.indexOf("!"));
+        return new URI(jarPath).toURL();
+    }
+
+}
@@ -0,0 +1,91 @@
+package dtm.discovery.finder;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.*;
+import java.util.function.Predicate;
+
+import dtm.discovery.core.ClassFinderConfigurations;
+import dtm.discovery.core.ClassFinderErrorHandler;
+import dtm.discovery.core.Processor;
+import dtm.discovery.finder.cache.ScanResultCache;
+import dtm.discovery.finder.index.ClassIndex;
+import dtm.discovery.finder.processor.ClasspathProcessor;
+import dtm.discovery.finder.processor.DirectoryProcessor;
+import dtm.discovery.finder.processor.IndexProcessor;
+import dtm.discovery.finder.processor.JarProcessor;
+import dtm.discovery.stereotips.ClassFinderStereotips;
+
+public class ClassFinderService extends AbstractClassFinderService {
+    private final ScanResultCache scanResultCache;
+
+    public ClassFinderService() {
+        this((ScanResultCache) null);
+    }
+
+    public ClassFinderService(ScanResultCache scanResultCache) {
+        super(null, null);
+        this.scanResultCache = scanResultCache;
+    }
+
+    public ClassFinderService(ClassFinderErrorHandler errorHandlers) {
+        super(errorHandlers, null);
+        this.scanResultCache = null;
+    }
+
+    public ClassFinderService(ClassFinderErrorHandler errorHandlers, Predicate<ClassFinderStereotips> scanAcepptHandler) {
+        super(errorHandlers, scanAcepptHandler);
+        this.scanResultCache = null;
+    }
+
+    public ClassFinderService(Predicate<ClassFinderStereotips> scanAcepptHandler) {
+        super(null, scanAcepptHandler);
+        this.scanResultCache = null;
+    }
+
+    public ScanResultCache getScanResultCache() {
+        return this.scanResultCache;
+    }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (this.scanResultCache != null) this.scanResultCache.invalidateAll();
+    }
+
+    @Override
+    protected Processor createJarProcessor(URL jarUrl, ClassIndex index, Set<Class<?>> classes, Set<String> jarProcessed, String pacote, ClassFinderConfigurations configurations) {
+        return (index != null && configurations.ignoreSubJars())
+                ? new IndexProcessor(jarUrl, index, classes, pacote, configurations, false)
+                : new JarProcessor(jarUrl, classes, jarProcessed, pacote, configurations, scanResultCache);
+    }
+
+    @Override
+    protected Processor createDirectoryProcessor(URL resource, ClassIndex index, Set<Class<?>> classes, String pacote, ClassFinderConfigurations configurations) {
+        return (index != null)
+                ? new IndexProcessor(resource, index, classes, pacote, configurations, true)
+                : new DirectoryProcessor(new File(resource.getFile()), pacote, classes, configurations, scanResultCache);
+    }
+
+    @Override
+    protected Processor createClasspathProcessor(Set<Class<?>> classes, Set<String> jarProcessed, Set<String> scannedRoots, String pacote, ClassFinderConfigurations configurations) {
+        return new ClasspathProcessor(classes, jarProcessed, scannedRoots, pacote, configurations, scanResultCache);
+    }
+
+    @Override
+    protected Map<String, ClassIndex> loadIndexes() throws Exception {
+        Map<String, ClassIndex> indexes = new HashMap<>();
+        Enumeration<URL> indexEnumeration = getResourcesEnumeration(ClassIndex.LOCATION);
+        while (indexEnumeration.hasMoreElements()) {
+            URL indexUrl = indexEnumeration.nextElement();
+            try (InputStream inputStream = indexUrl.openStream()) {
+                indexes.put(getRootKey(indexUrl, ClassIndex.LOCATION), ClassIndex.read(inputStream));
+            } catch (Exception e) {
+                executeErrorHandler(e);
+            }
+        }
+        return indexes;
+    }
+
+}
@@ -0,0 +1,14 @@
+package dtm.discovery.finder.bytecode;
+
+import dtm.discovery.core.ClassHeaderReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public final class BytecodeHeaderReader implements ClassHeaderReader {
+
+    @Override
+    public ClassHeader read(InputStream inputStream) throws IOException {
+        return ClassFileReader.read(inputStream);
+    }
+}
@@ -0,0 +1,242 @@
+package dtm.discovery.finder.bytecode;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ClassFileReader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private final byte[] data;
+    private int[] utf8Offsets;
+    private int[] classNameIndexes;
+    private int position;
+
+    private ClassFileReader(byte[] data) {
+        this.data = data;
+    }
+
+    public static ClassHeader read(InputStream inputStream) throws IOException {
+        return read(inputStream.readAllBytes());
+    }
+
+    public static ClassHeader read(byte[] data) throws IOException {
+        try {
+            return new ClassFileReader(data).parse();
+        } catch (IndexOutOfBoundsException e) {
+            throw new EOFException("Class file truncado");
+        }
+    }
+
+    public static String readClassName(byte[] data) throws IOException {
+        try {
+            ClassFileReader reader = new ClassFileReader(data);
+            reader.readHeader();
+            reader.position += 2;
+            return reader.className(reader.readUnsignedShort());
+        } catch (IndexOutOfBoundsException e) {
+            throw new EOFException("Class file truncado");
+        }
+    }
+
+    public static boolean isAnnotationCandidate(Class<? extends Annotation> annotation) {
+        return annotation != null && !annotation.isAnnotationPresent(Inherited.class);
+    }
+
+    public static boolean mayBeAnnotatedWith(InputStream inputStream, Class<? extends Annotation> annotation) throws IOException {
+        if (!isAnnotationCandidate(annotation)) return true;
+        return read(inputStream).hasAnnotation(annotation.getName());
+    }
+
+    public static boolean mayBeAnnotatedWith(byte[] data, Class<? extends Annotation> annotation) throws IOException {
+        if (!isAnnotationCandidate(annotation)) return true;
+        return read(data).hasAnnotation(annotation.getName());
+    }
+
+    private ClassHeader parse() throws IOException {
+        readHeader();
+
+        int accessFlags = readUnsignedShort();
+        String name = className(readUnsignedShort());
+        int superIndex = readUnsignedShort();
+        String superName = (superIndex == 0) ? null : className(superIndex);
+
+        int interfacesCount = readUnsignedShort();
+        List<String> interfaces = new ArrayList<>(interfacesCount);
+        for (int i = 0; i < interfacesCount; i++) {
+            interfaces.add(className(readUnsignedShort()));
+        }
+
+        skipMembers();
+        skipMembers();
+
+        List<String> annotations = new ArrayList<>();
+        int attributesCount = readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            int nameIndex = readUnsignedShort();
+            int length = readInt();
+            int end = position + length;
+            if (utf8Equals(nameIndex, RUNTIME_VISIBLE_ANNOTATIONS)) {
+                int count = readUnsignedShort();
+                for (int j = 0; j < count; j++) {
+                    annotations.add(descriptorToName(utf8(readUnsignedShort())));
+                    skipElementValuePairs();
+                }
+            }
+            position = end;
+        }
+        if (position > data.length) {
+            throw new EOFException("Class file truncado");
+        }
+
+        return new ClassHeader(name, accessFlags, superName, interfaces, annotations);
+    }
+
+    private void readHeader() throws IOException {
+        if (readInt() != MAGIC) {
+            throw new IOException("Class file inválido: magic number incorreto");
+        }
+        position += 4;
+        readConstantPool();
+    }
+
+    private void readConstantPool() throws IOException {
+        int count = readUnsignedShort();
+        utf8Offsets = new int[count];
+        classNameIndexes = new int[count];
+        for (int i = 1; i < count; i++) {
+            int tag = data[position++] & 0xFF;
+            switch (tag) {
+                case 1 -> {
+                    utf8Offsets[i] = position;
+                    position += 2 + readUnsignedShortAt(position);
+                }
+                case 7 -> classNameIndexes[i] = readUnsignedShort();
+                case 8, 16, 19, 20 -> position += 2;
+                case 15 -> position += 3;
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> position += 4;
+                case 5, 6 -> {
+                    position += 8;
+                    i++;
+                }
+                default -> throw new IOException("Class file inválido: tag de constant pool desconhecida " + tag);
+            }
+        }
+    }
+
+    private void skipMembers() {
+        int count = readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            position += 6;
+            skipAttributes();
+        }
+    }
+
+    private void skipAttributes() {
+        int count = readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            position += 2;
+            int length = readInt();
+            position += length;
+        }
+    }
+
+    private void skipElementValuePairs() throws IOException {
+        int pairs = readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            position += 2;
+            skipElementValue();
+        }
+    }
+
+    private void skipElementValue() throws IOException {
+        char tag = (char) (data[position++] & 0xFF);
+        switch (tag) {
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> position += 2;
+            case 'e' -> position += 4;
+            case '@' -> {
+                position += 2;
+                skipElementValuePairs();
+            }
+            case '[' -> {
+                int count = readUnsignedShort();
+                for (int i = 0; i < count; i++) {
+                    skipElementValue();
+                }
+            }
+            default -> throw new IOException("Class file inválido: element_value desconhecido " + tag);
+        }
+    }
+
+    private String className(int index) throws IOException {
+        if (index <= 0 || index >= classNameIndexes.length || classNameIndexes[index] == 0) {
+            throw new IOException("Class file inválido: referência de classe " + index);
+        }
+        return utf8(classNameIndexes[index]).replace('/', '.');
+    }
+
+    private boolean utf8Equals(int index, String value) {
+        int offset = utf8Offsets[index];
+        if (offset == 0 || readUnsignedShortAt(offset) != value.length()) return false;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (data[offset + 2 + i] != value.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private String utf8(int index) throws IOException {
+        if (index <= 0 || index >= utf8Offsets.length || utf8Offsets[index] == 0) {
+            throw new IOException("Class file inválido: referência utf8 " + index);
+        }
+        int offset = utf8Offsets[index];
+        int length = readUnsignedShortAt(offset);
+        int start = offset + 2;
+        int end = start + length;
+        char[] chars = new char[length];
+        int size = 0;
+        for (int i = start; i < end; ) {
+            int c = data[i++] & 0xFF;
+            if (c < 0x80) {
+                chars[size++] = (char) c;
+            } else if ((c & 0xE0) == 0xC0) {
+                chars[size++] = (char) (((c & 0x1F) << 6) | (data[i++] & 0x3F));
+            } else {
+                chars[size++] = (char) (((c & 0x0F) << 12) | ((data[i++] & 0x3F) << 6) | (data[i++] & 0x3F));
+            }
+        }
+        return new String(chars, 0, size);
+    }
+
+    private static String descriptorToName(String descriptor) {
+        if (descriptor.length() > 2 && descriptor.charAt(0) == 'L' && descriptor.endsWith(";")) {
+            return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+        }
+        return descriptor;
+    }
+
+    private int readUnsignedShort() {
+        int value = readUnsignedShortAt(position);
+        position += 2;
+        return value;
+    }
+
+    private int readUnsignedShortAt(int offset) {
+        return ((data[offset] & 0xFF) << 8) | (data[offset + 1] & 0xFF);
+    }
+
+    private int readInt() {
+        int value = ((data[position] & 0xFF) << 24)
+                | ((data[position + 1] & 0xFF) << 16)
+                | ((data[position + 2] & 0xFF) << 8)
+                | (data[position + 3] & 0xFF);
+        position += 4;
+        return value;
+    }
+}
@@ -0,0 +1,118 @@
+package dtm.discovery.finder.bytecode;
+
+import dtm.discovery.core.ClassHeaderView;
+import dtm.discovery.core.ClassInfo;
+
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+public final class ClassHeader implements ClassHeaderView {
+
+    public static final int ACC_INTERFACE = 0x0200;
+    public static final int ACC_ANNOTATION = 0x2000;
+    public static final int ACC_ENUM = 0x4000;
+    public static final int ACC_MODULE = 0x8000;
+    public static final Comparator<ClassHeader> BY_NAME = Comparator.comparing(ClassHeader::getName);
+
+    private final String name;
+    private final int accessFlags;
+    private final String superName;
+    private final List<String> interfaces;
+    private final List<String> annotations;
+
+    public ClassHeader(String name, int accessFlags, String superName, List<String> interfaces, List<String> annotations) {
+        this.name = name;
+        this.accessFlags = accessFlags;
+        this.superName = superName;
+        this.interfaces = List.copyOf(interfaces);
+        this.annotations = List.copyOf(annotations);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getAccessFlags() {
+        return accessFlags;
+    }
+
+    @Override
+    public String getSuperName() {
+        return superName;
+    }
+
+    @Override
+    public List<String> getInterfaces() {
+        return interfaces;
+    }
+
+    @Override
+    public List<String> getAnnotations() {
+        return annotations;
+    }
+
+    public boolean hasAnnotation(String annotationName) {
+        return annotations.contains(annotationName);
+    }
+
+    public boolean isInterface() {
+        return (accessFlags & ACC_INTERFACE) != 0;
+    }
+
+    public boolean isAnnotation() {
+        return (accessFlags & ACC_ANNOTATION) != 0;
+    }
+
+    public boolean isEnum() {
+        return (accessFlags & ACC_ENUM) != 0;
+    }
+
+    public boolean isModule() {
+        return (accessFlags & ACC_MODULE) != 0;
+    }
+
+    public boolean isPublic() {
+        return Modifier.isPublic(accessFlags);
+    }
+
+    public boolean isAbstract() {
+        return Modifier.isAbstract(accessFlags);
+    }
+
+    public ClassInfo toClassInfo(URL source, ClassLoader classLoader) {
+        return new ClassInfo(name, accessFlags, superName, interfaces, annotations, source, classLoader);
+    }
+
+    public static List<ClassHeader> sortedByName(Collection<ClassHeader> headers) {
+        return headers.stream().sorted(BY_NAME).toList();
+    }
+
+    public static List<ClassHeader> inPackage(List<ClassHeader> sortedByName, String prefix) {
+        if (prefix == null || prefix.isEmpty()) return sortedByName;
+        int from = 0;
+        int to = sortedByName.size();
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (sortedByName.get(middle).name.compareTo(prefix) < 0) from = middle + 1;
+            else to = middle;
+        }
+        int end = sortedByName.size();
+        to = from;
+        while (to < end) {
+            int middle = (to + end) >>> 1;
+            if (sortedByName.get(middle).name.startsWith(prefix)) to = middle + 1;
+            else end = middle;
+        }
+        return sortedByName.subList(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
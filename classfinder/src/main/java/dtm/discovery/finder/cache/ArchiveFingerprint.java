@@ -0,0 +1,113 @@
+package dtm.discovery.finder.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+public final class ArchiveFingerprint {
+
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final long size;
+    private final long lastModified;
+    private final byte[] contentHash;
+
+    public ArchiveFingerprint(long size, long lastModified, byte[] contentHash) {
+        this.size = size;
+        this.lastModified = lastModified;
+        this.contentHash = contentHash.clone();
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public byte[] getContentHash() {
+        return contentHash.clone();
+    }
+
+    public static ArchiveFingerprint of(Path archive) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(archive, BasicFileAttributes.class);
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            MessageDigest digest = newDigest();
+            long[] centralDirectory = locateCentralDirectory(channel);
+            if (centralDirectory != null) {
+                update(digest, channel, centralDirectory[0], centralDirectory[1]);
+            } else {
+                update(digest, channel, 0, channel.size());
+            }
+            return new ArchiveFingerprint(attributes.size(), attributes.lastModifiedTime().toMillis(), digest.digest());
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArchiveFingerprint that)) return false;
+        return size == that.size && lastModified == that.lastModified && Arrays.equals(contentHash, that.contentHash);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Long.hashCode(size) + Long.hashCode(lastModified)) + Arrays.hashCode(contentHash);
+    }
+
+    private static long[] locateCentralDirectory(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < END_OF_CENTRAL_DIRECTORY_SIZE) return null;
+
+        int tailSize = (int) Math.min(fileSize, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_COMMENT_SIZE);
+        ByteBuffer tail = ByteBuffer.allocate(tailSize).order(ByteOrder.LITTLE_ENDIAN);
+        long tailStart = fileSize - tailSize;
+        while (tail.hasRemaining()) {
+            if (channel.read(tail, tailStart + tail.position()) < 0) return null;
+        }
+
+        for (int i = tailSize - END_OF_CENTRAL_DIRECTORY_SIZE; i >= 0; i--) {
+            if (tail.getInt(i) != END_OF_CENTRAL_DIRECTORY) continue;
+            long centralDirectorySize = Integer.toUnsignedLong(tail.getInt(i + 12));
+            long centralDirectoryEnd = tailStart + i;
+            long centralDirectoryStart = centralDirectoryEnd - centralDirectorySize;
+            if (centralDirectorySize == 0xFFFFFFFFL || centralDirectoryStart < 0) return null;
+            return new long[]{centralDirectoryStart, fileSize - centralDirectoryStart};
+        }
+        return null;
+    }
+
+    private static void update(MessageDigest digest, FileChannel channel, long position, long length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long end = position + length;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(BUFFER_SIZE, end - position));
+            int read = channel.read(buffer, position);
+            if (read < 0) break;
+            buffer.flip();
+            digest.update(buffer);
+            position += read;
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package dtm.discovery.finder.cache;
+
+import dtm.discovery.core.ScanExecutor;
+import dtm.discovery.core.ScanExecutorType;
+import dtm.discovery.finder.bytecode.ClassFileReader;
+import dtm.discovery.finder.bytecode.ClassHeader;
+import dtm.discovery.finder.scheduler.ScanScheduler;
+import dtm.discovery.finder.zip.MappedZipFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.IntConsumer;
+
+public final class ArchiveSnapshot {
+
+    private static final byte[] VERSIONS_PREFIX = "META-INF/versions/".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MODULE_INFO_SUFFIX = "module-info.class".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CLASS_SUFFIX = ".class".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JAR_SUFFIX = ".jar".getBytes(StandardCharsets.UTF_8);
+
+    private final List<ClassHeader> classes;
+    private final List<String> nestedJars;
+    private final List<String> malformedClasses;
+
+    public ArchiveSnapshot(List<ClassHeader> classes, List<String> nestedJars) {
+        this(classes, nestedJars, List.of());
+    }
+
+    public ArchiveSnapshot(List<ClassHeader> classes, List<String> nestedJars, List<String> malformedClasses) {
+        this.classes = ClassHeader.sortedByName(classes);
+        this.nestedJars = List.copyOf(nestedJars);
+        this.malformedClasses = malformedClasses.stream().sorted().toList();
+    }
+
+    public List<ClassHeader> getClasses() {
+        return classes;
+    }
+
+    public List<ClassHeader> getClassesInPackage(String pacote) {
+        return ClassHeader.inPackage(classes, pacote);
+    }
+
+    public List<String> getNestedJars() {
+        return nestedJars;
+    }
+
+    public List<String> getMalformedClasses() {
+        return malformedClasses;
+    }
+
+    public List<String> getMalformedClassesInPackage(String pacote) {
+        if (pacote == null || pacote.isEmpty()) return malformedClasses;
+        return malformedClasses.stream().filter(name -> name.startsWith(pacote)).toList();
+    }
+
+    public static ArchiveSnapshot scan(MappedZipFile zipFile) {
+        return scan(zipFile, null);
+    }
+
+    public static ArchiveSnapshot scan(MappedZipFile zipFile, ScanExecutor scheduler) {
+        int[] entries = new int[zipFile.size()];
+        Arrays.setAll(entries, i -> i);
+        return scan(zipFile, entries, scheduler);
+    }
+
+    public static ArchiveSnapshot scan(MappedZipFile zipFile, String pacote, ScanExecutor scheduler) {
+        int[] packageEntries = zipFile.entriesStartingWith(pacote.replace('.', '/').getBytes(StandardCharsets.UTF_8));
+        int[] nestedEntries = zipFile.entriesEndingWith(JAR_SUFFIX);
+        int[] entries = Arrays.copyOf(packageEntries, packageEntries.length + nestedEntries.length);
+        System.arraycopy(nestedEntries, 0, entries, packageEntries.length, nestedEntries.length);
+        return scan(zipFile, entries, scheduler);
+    }
+
+    private static ArchiveSnapshot scan(MappedZipFile zipFile, int[] entries, ScanExecutor scheduler) {
+        int[] classEntries = new int[entries.length];
+        int classCount = 0;
+        List<String> nestedJars = new ArrayList<>();
+        for (int i : entries) {
+            if (scheduler != null && scheduler.isCancelled()) break;
+            if (zipFile.nameStartsWithIgnoreCase(i, VERSIONS_PREFIX) || zipFile.nameEndsWith(i, MODULE_INFO_SUFFIX)) {
+                continue;
+            }
+            if (zipFile.nameEndsWith(i, CLASS_SUFFIX)) {
+                classEntries[classCount++] = i;
+            } else if (zipFile.nameEndsWith(i, JAR_SUFFIX) && !nestedJars.contains(zipFile.getName(i))) {
+                nestedJars.add(zipFile.getName(i));
+            }
+        }
+
+        ClassHeader[] headers = new ClassHeader[classCount];
+        String[] malformed = new String[classCount];
+        IntConsumer reader = i -> {
+            try {
+                headers[i] = ClassFileReader.read(zipFile.getBytes(classEntries[i]));
+            } catch (IOException e) {
+                String entryName = zipFile.getName(classEntries[i]);
+                malformed[i] = entryName.substring(0, entryName.length() - CLASS_SUFFIX.length).replace('/', '.');
+            }
+        };
+        if (scheduler != null) {
+            scheduler.forEach(classCount, scheduler.getBatchSize(), reader);
+        } else {
+            for (int i = 0; i < classCount; i++) reader.accept(i);
+        }
+        return new ArchiveSnapshot(
+                Arrays.stream(headers).filter(Objects::nonNull).toList(),
+                nestedJars,
+                Arrays.stream(malformed).filter(Objects::nonNull).toList()
+        );
+    }
+
+    public static ArchiveSnapshot scan(Path directory) throws IOException {
+        return scan(directory, null);
+    }
+
+    public static ArchiveSnapshot scan(Path directory, ScanExecutor scheduler) throws IOException {
+        if (!Files.isDirectory(directory)) throw new NotDirectoryException(directory.toString());
+        if (scheduler == null) {
+            try (ScanScheduler walker = new ScanScheduler(ScanExecutorType.CALLER_RUNS, 1, 64)) {
+                return scan(directory, walker);
+            }
+        }
+
+        Queue<ClassHeader> classes = new ConcurrentLinkedQueue<>();
+        Queue<String> malformed = new ConcurrentLinkedQueue<>();
+        try {
+            scheduler.walk(new DirectoryTask(directory, null), (task, fork) -> {
+                if (task.files() != null) {
+                    readClasses(directory, task.files(), classes, malformed, scheduler);
+                    return;
+                }
+
+                List<Path> classFiles = new ArrayList<>();
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(task.directory())) {
+                    for (Path path : stream) {
+                        if (scheduler.isCancelled()) break;
+                        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                        String fileName = path.getFileName().toString();
+                        if (attributes.isDirectory()) {
+                            fork.accept(new DirectoryTask(path, null));
+                        } else if (attributes.isRegularFile() && fileName.endsWith(".class") && !fileName.equals("module-info.class")) {
+                            classFiles.add(path);
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+
+                int batchSize = scheduler.getBatchSize();
+                int start = 0;
+                for (; start + batchSize < classFiles.size(); start += batchSize) {
+                    fork.accept(new DirectoryTask(task.directory(), classFiles.subList(start, start + batchSize)));
+                }
+                readClasses(directory, classFiles.subList(start, classFiles.size()), classes, malformed, scheduler);
+            }, null);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) throw io.getCause();
+            throw e;
+        }
+        return new ArchiveSnapshot(new ArrayList<>(classes), List.of(), new ArrayList<>(malformed));
+    }
+
+    private static void readClasses(Path root, List<Path> files, Queue<ClassHeader> classes, Queue<String> malformed, ScanExecutor scheduler) {
+        for (Path file : files) {
+            if (scheduler.isCancelled()) return;
+            try (InputStream inputStream = Files.newInputStream(file)) {
+                classes.add(ClassFileReader.read(inputStream));
+            } catch (IOException e) {
+                String relativePath = root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), ".");
+                malformed.add(relativePath.substring(0, relativePath.length() - CLASS_SUFFIX.length));
+            }
+        }
+    }
+
+    private record DirectoryTask(Path directory, List<Path> files) {
+    }
+}
@@ -0,0 +1,30 @@
+package dtm.discovery.finder.cache;
+
+import dtm.discovery.finder.zip.MappedZipFile;
+
+public record ContentFingerprint(int entries, long size, long hash) {
+
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    public static ContentFingerprint of(MappedZipFile zipFile) {
+        long size = 0;
+        long hash = 0;
+        for (int i = 0; i < zipFile.size(); i++) {
+            long entrySize = zipFile.getSize(i);
+            size += entrySize;
+            hash = mix(hash, zipFile.nameHash(i));
+            hash = mix(hash, zipFile.getCrc(i));
+            hash = mix(hash, entrySize);
+        }
+        return new ContentFingerprint(zipFile.size(), size, hash);
+    }
+
+    public String toKey() {
+        return "content:" + entries + ":" + size + ":" + Long.toHexString(hash);
+    }
+
+    private static long mix(long hash, long value) {
+        long mixed = (hash ^ value) * MULTIPLIER;
+        return mixed ^ (mixed >>> 32);
+    }
+}
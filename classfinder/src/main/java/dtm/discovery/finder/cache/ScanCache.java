@@ -0,0 +1,261 @@
+package dtm.discovery.finder.cache;
+
+import dtm.discovery.core.ScanExecutor;
+import dtm.discovery.finder.bytecode.ClassHeader;
+import dtm.discovery.finder.zip.MappedBuffers;
+import dtm.discovery.finder.zip.MappedZipFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+public final class ScanCache {
+
+    private static final int MAGIC = 0x43465343;
+    private static final int VERSION = 2;
+    private static final String EXTENSION = ".scan";
+
+    private final Path directory;
+
+    public ScanCache(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public ArchiveSnapshot getOrScan(Path archive, Consumer<Throwable> storeErrorAction) throws IOException {
+        return getOrScan(archive, null, storeErrorAction);
+    }
+
+    public ArchiveSnapshot getOrScan(Path archive, ScanExecutor scheduler, Consumer<Throwable> storeErrorAction) throws IOException {
+        Path archivePath = archive.toAbsolutePath().normalize();
+        ArchiveFingerprint fingerprint = ArchiveFingerprint.of(archivePath);
+        Path cacheFile = cacheFileFor(archivePath);
+
+        ArchiveSnapshot snapshot = load(cacheFile, archivePath, fingerprint);
+        if (snapshot != null) return snapshot;
+
+        try (MappedZipFile zipFile = MappedZipFile.open(archivePath)) {
+            snapshot = ArchiveSnapshot.scan(zipFile, scheduler);
+        }
+        if (scheduler != null && scheduler.isCancelled()) return snapshot;
+
+        try {
+            store(cacheFile, archivePath, fingerprint, snapshot);
+        } catch (IOException e) {
+            storeErrorAction.accept(e);
+        }
+        return snapshot;
+    }
+
+    public void invalidate(Path archive) throws IOException {
+        Files.deleteIfExists(cacheFileFor(archive.toAbsolutePath().normalize()));
+    }
+
+    private ArchiveSnapshot load(Path cacheFile, Path archivePath, ArchiveFingerprint fingerprint) {
+        MappedByteBuffer buffer = null;
+        try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Cabeçalho de cache inválido");
+            }
+            if (!archivePath.toString().equals(readString(buffer))) return null;
+
+            long size = buffer.getLong();
+            long lastModified = buffer.getLong();
+            byte[] contentHash = new byte[buffer.get() & 0xFF];
+            buffer.get(contentHash);
+            if (!fingerprint.equals(new ArchiveFingerprint(size, lastModified, contentHash))) return null;
+
+            int payloadLength = buffer.getInt();
+            int payloadChecksum = buffer.getInt();
+            if (payloadLength != buffer.remaining()) {
+                throw new IOException("Tamanho de cache inválido");
+            }
+            ByteBuffer payload = buffer.slice();
+            CRC32C crc = new CRC32C();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != payloadChecksum) {
+                throw new IOException("Checksum de cache inválido");
+            }
+            return readPayload(payload);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            MappedBuffers.unmap(buffer);
+            buffer = null;
+            deleteQuietly(cacheFile);
+            return null;
+        } finally {
+            MappedBuffers.unmap(buffer);
+        }
+    }
+
+    private void store(Path cacheFile, Path archivePath, ArchiveFingerprint fingerprint, ArchiveSnapshot snapshot) throws IOException {
+        byte[] payload = writePayload(snapshot);
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            writeString(out, archivePath.toString());
+            out.writeLong(fingerprint.getSize());
+            out.writeLong(fingerprint.getLastModified());
+            byte[] contentHash = fingerprint.getContentHash();
+            out.writeByte(contentHash.length);
+            out.write(contentHash);
+            out.writeInt(payload.length);
+            out.writeInt((int) crc.getValue());
+            out.write(payload);
+        }
+
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, cacheFile.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, bytes.toByteArray());
+            Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private byte[] writePayload(ArchiveSnapshot snapshot) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (ClassHeader header : snapshot.getClasses()) {
+            intern(strings, header.getName());
+            intern(strings, header.getSuperName());
+            header.getInterfaces().forEach(name -> intern(strings, name));
+            header.getAnnotations().forEach(name -> intern(strings, name));
+        }
+        snapshot.getNestedJars().forEach(name -> intern(strings, name));
+        snapshot.getMalformedClasses().forEach(name -> intern(strings, name));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(strings.size());
+            for (String value : strings.keySet()) {
+                writeString(out, value);
+            }
+
+            out.writeInt(snapshot.getClasses().size());
+            for (ClassHeader header : snapshot.getClasses()) {
+                out.writeInt(strings.get(header.getName()));
+                out.writeInt(header.getAccessFlags());
+                out.writeInt(header.getSuperName() != null ? strings.get(header.getSuperName()) : -1);
+                writeReferences(out, strings, header.getInterfaces());
+                writeReferences(out, strings, header.getAnnotations());
+            }
+            writeReferences(out, strings, snapshot.getNestedJars());
+            writeReferences(out, strings, snapshot.getMalformedClasses());
+        }
+        return bytes.toByteArray();
+    }
+
+    private ArchiveSnapshot readPayload(ByteBuffer payload) {
+        String[] strings = new String[readCount(payload)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(payload);
+        }
+
+        int classCount = readCount(payload);
+        List<ClassHeader> classes = new ArrayList<>(classCount);
+        for (int i = 0; i < classCount; i++) {
+            String name = strings[payload.getInt()];
+            int accessFlags = payload.getInt();
+            int superIndex = payload.getInt();
+            List<String> interfaces = readReferences(payload, strings);
+            List<String> annotations = readReferences(payload, strings);
+            classes.add(new ClassHeader(name, accessFlags, superIndex >= 0 ? strings[superIndex] : null, interfaces, annotations));
+        }
+        List<String> nestedJars = readReferences(payload, strings);
+        List<String> malformedClasses = readReferences(payload, strings);
+        if (payload.hasRemaining()) {
+            throw new IllegalArgumentException("Dados excedentes no cache");
+        }
+        return new ArchiveSnapshot(classes, nestedJars, malformedClasses);
+    }
+
+    private static void intern(Map<String, Integer> strings, String value) {
+        if (value != null) strings.putIfAbsent(value, strings.size());
+    }
+
+    private static void writeReferences(DataOutputStream out, Map<String, Integer> strings, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            out.writeInt(strings.get(value));
+        }
+    }
+
+    private static List<String> readReferences(ByteBuffer buffer, String[] strings) {
+        String[] values = new String[readCount(buffer)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = strings[buffer.getInt()];
+        }
+        return Arrays.asList(values);
+    }
+
+    private static int readCount(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / 4) {
+            throw new IllegalArgumentException("Contagem inválida no cache");
+        }
+        return count;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Texto inválido no cache");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private Path cacheFileFor(Path archivePath) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(archivePath.toString().getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(hash, 0, 16) + EXTENSION);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+        }
+    }
+}
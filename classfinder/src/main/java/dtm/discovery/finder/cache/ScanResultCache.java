@@ -0,0 +1,118 @@
+package dtm.discovery.finder.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ScanResultCache {
+
+    public static final long DEFAULT_MAX_WEIGHT = 500_000;
+
+    private final long maxWeight;
+    private final LinkedHashMap<String, ArchiveSnapshot> entries;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private long weight;
+
+    public ScanResultCache() {
+        this(DEFAULT_MAX_WEIGHT);
+    }
+
+    public ScanResultCache(long maxWeight) {
+        if (maxWeight < 0) throw new IllegalArgumentException("maxWeight deve ser positivo");
+        this.maxWeight = maxWeight;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    public ArchiveSnapshot get(String key) {
+        return get(key, null);
+    }
+
+    public ArchiveSnapshot get(String key, String fallbackKey) {
+        ArchiveSnapshot snapshot;
+        synchronized (entries) {
+            snapshot = entries.get(key);
+            if (snapshot == null && fallbackKey != null) snapshot = entries.get(fallbackKey);
+        }
+        if (snapshot != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return snapshot;
+    }
+
+    public void put(String key, ArchiveSnapshot snapshot) {
+        long snapshotWeight = weightOf(snapshot);
+        if (snapshotWeight > maxWeight) {
+            invalidate(key);
+            return;
+        }
+
+        synchronized (entries) {
+            ArchiveSnapshot previous = entries.put(key, snapshot);
+            if (previous != null) weight -= weightOf(previous);
+            weight += snapshotWeight;
+
+            Iterator<Map.Entry<String, ArchiveSnapshot>> iterator = entries.entrySet().iterator();
+            while (weight > maxWeight && iterator.hasNext()) {
+                Map.Entry<String, ArchiveSnapshot> eldest = iterator.next();
+                if (eldest.getKey().equals(key)) continue;
+                weight -= weightOf(eldest.getValue());
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    public void invalidate(String key) {
+        synchronized (entries) {
+            ArchiveSnapshot removed = entries.remove(key);
+            if (removed != null) weight -= weightOf(removed);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private static long weightOf(ArchiveSnapshot snapshot) {
+        return Math.max(1, snapshot.getClasses().size() + snapshot.getNestedJars().size());
+    }
+}
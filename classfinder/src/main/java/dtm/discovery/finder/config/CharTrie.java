@@ -0,0 +1,94 @@
+package dtm.discovery.finder.config;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntUnaryOperator;
+
+final class CharTrie {
+
+    static final int ROOT = 0;
+
+    final int[] edgeStart;
+    final char[] edgeChars;
+    final int[] edgeTargets;
+    final boolean[] terminal;
+
+    private CharTrie(int[] edgeStart, char[] edgeChars, int[] edgeTargets, boolean[] terminal) {
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.terminal = terminal;
+    }
+
+    static CharTrie build(Collection<String> values, IntUnaryOperator normalize) {
+        Node root = new Node();
+        if (values != null) {
+            for (String value : values) {
+                if (value == null) continue;
+                Node node = root;
+                for (int i = 0; i < value.length(); i++) {
+                    node = node.children.computeIfAbsent((char) normalize.applyAsInt(value.charAt(i)), c -> new Node());
+                }
+                node.terminal = true;
+            }
+        }
+
+        List<Node> nodes = new ArrayList<>();
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            node.id = nodes.size();
+            nodes.add(node);
+            queue.addAll(node.children.values());
+        }
+
+        int[] edgeStart = new int[nodes.size() + 1];
+        char[] edgeChars = new char[nodes.size() - 1];
+        int[] edgeTargets = new int[nodes.size() - 1];
+        boolean[] terminal = new boolean[nodes.size()];
+        int edge = 0;
+        for (Node node : nodes) {
+            edgeStart[node.id] = edge;
+            terminal[node.id] = node.terminal;
+            for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                edgeChars[edge] = child.getKey();
+                edgeTargets[edge] = child.getValue().id;
+                edge++;
+            }
+        }
+        edgeStart[nodes.size()] = edge;
+        return new CharTrie(edgeStart, edgeChars, edgeTargets, terminal);
+    }
+
+    int size() {
+        return terminal.length;
+    }
+
+    int next(int state, char c) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char value = edgeChars[middle];
+            if (value < c) {
+                low = middle + 1;
+            } else if (value > c) {
+                high = middle - 1;
+            } else {
+                return edgeTargets[middle];
+            }
+        }
+        return -1;
+    }
+
+    private static final class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private boolean terminal;
+        private int id;
+    }
+}
@@ -0,0 +1,197 @@
+package dtm.discovery.finder.config;
+
+import dtm.discovery.core.ClassFilter;
+import dtm.discovery.core.ClassFinderConfigurations;
+import dtm.discovery.core.ClassFinderErrorHandler;
+import dtm.discovery.core.ClassInfo;
+import dtm.discovery.core.ScanExecutorType;
+import dtm.discovery.core.ScanMetricsSink;
+import dtm.discovery.finder.bytecode.ClassFileReader;
+import dtm.discovery.finder.bytecode.ClassHeader;
+import dtm.discovery.finder.jfr.ClassFilterEvent;
+import dtm.discovery.finder.zip.MappedZipFile;
+import dtm.discovery.stereotips.ClassFinderStereotips;
+
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+public final class CompiledConfigurations implements ClassFinderConfigurations {
+
+    private final boolean allElements;
+    private final boolean anonimousClass;
+    private final ClassFinderErrorHandler errorHandler;
+    private final Predicate<ClassFinderStereotips> aceptHandler;
+    private final Class<? extends Annotation> filterByAnnotation;
+    private final ClassFilter classFilter;
+    private final boolean ignoreSubJars;
+    private final boolean ignoreMainJar;
+    private final List<String> ignorePackges;
+    private final List<String> ignoreJarsTerms;
+    private final Path scanCacheDirectory;
+    private final ScanExecutorType scanExecutorType;
+    private final int scanParallelism;
+    private final int scanBatchSize;
+    private final Duration scanTimeout;
+    private final ScanMetricsSink metricsSink;
+    private final Duration watchDebounce;
+    private final PrefixMatcher ignoredPackages;
+    private final TermMatcher ignoredJarTerms;
+    private final boolean annotationCandidate;
+
+    private CompiledConfigurations(ClassFinderConfigurations configurations) {
+        this.allElements = configurations.getAllElements();
+        this.anonimousClass = configurations.getAnonimousClass();
+        this.errorHandler = configurations.getErrorHandler();
+        this.aceptHandler = configurations.getAceptHandler();
+        this.filterByAnnotation = configurations.getFilterByAnnotation();
+        this.classFilter = configurations.getClassFilter();
+        this.ignoreSubJars = configurations.ignoreSubJars();
+        this.ignoreMainJar = configurations.ignoreMainJar();
+        this.ignorePackges = copyOf(configurations.getIgnorePackges());
+        this.ignoreJarsTerms = copyOf(configurations.getIgnoreJarsTerms());
+        this.scanCacheDirectory = configurations.getScanCacheDirectory();
+        this.scanExecutorType = configurations.getScanExecutorType();
+        this.scanParallelism = configurations.getScanParallelism();
+        this.scanBatchSize = configurations.getScanBatchSize();
+        this.scanTimeout = configurations.getScanTimeout();
+        this.metricsSink = configurations.getMetricsSink();
+        this.watchDebounce = configurations.getWatchDebounce();
+        this.ignoredPackages = PrefixMatcher.of(ignorePackges);
+        this.ignoredJarTerms = TermMatcher.of(ignoreJarsTerms);
+        this.annotationCandidate = ClassFileReader.isAnnotationCandidate(filterByAnnotation);
+    }
+
+    public static CompiledConfigurations of(ClassFinderConfigurations configurations) {
+        if (configurations instanceof CompiledConfigurations compiled) return compiled;
+        return new CompiledConfigurations((configurations != null) ? configurations : new ClassFinderConfigurations() {});
+    }
+
+    public boolean isIgnoredPackage(CharSequence className) {
+        return ignoredPackages.matches(className);
+    }
+
+    public boolean isIgnoredPackage(MappedZipFile zipFile, int entry, int suffixLength) {
+        return zipFile.nameStartsWith(entry, ignoredPackages, suffixLength);
+    }
+
+    public boolean isIgnoredJar(CharSequence jarPath) {
+        return ignoredJarTerms.containsAny(jarPath);
+    }
+
+    public boolean filtersHeaders() {
+        return annotationCandidate || classFilter != null;
+    }
+
+    public String headerRejection(ClassHeader header, URL source) {
+        if (annotationCandidate && !header.hasAnnotation(filterByAnnotation.getName())) return ClassFilterEvent.ANNOTATION;
+        if (classFilter != null && !classFilter.matches(header.toClassInfo(source, Thread.currentThread().getContextClassLoader()))) return ClassFilterEvent.CLASS_FILTER;
+        return null;
+    }
+
+    public String infoRejection(ClassInfo info) {
+        if (filterByAnnotation != null && !info.hasAnnotation(filterByAnnotation)) return ClassFilterEvent.ANNOTATION;
+        if (classFilter != null && !classFilter.matches(info)) return ClassFilterEvent.CLASS_FILTER;
+        return null;
+    }
+
+    public String classRejection(Class<?> clazz) {
+        if (filterByAnnotation != null && !clazz.isAnnotationPresent(filterByAnnotation)) return ClassFilterEvent.ANNOTATION;
+        if (classFilter != null && !classFilter.isHeaderEvaluable() && !classFilter.matches(clazz)) return ClassFilterEvent.CLASS_FILTER;
+        return null;
+    }
+
+    @Override
+    public boolean getAllElements() {
+        return allElements;
+    }
+
+    @Override
+    public boolean getAnonimousClass() {
+        return anonimousClass;
+    }
+
+    @Override
+    public ClassFinderErrorHandler getErrorHandler() {
+        return errorHandler;
+    }
+
+    @Override
+    public Predicate<ClassFinderStereotips> getAceptHandler() {
+        return aceptHandler;
+    }
+
+    @Override
+    public Class<? extends Annotation> getFilterByAnnotation() {
+        return filterByAnnotation;
+    }
+
+    @Override
+    public ClassFilter getClassFilter() {
+        return classFilter;
+    }
+
+    @Override
+    public boolean ignoreSubJars() {
+        return ignoreSubJars;
+    }
+
+    @Override
+    public boolean ignoreMainJar() {
+        return ignoreMainJar;
+    }
+
+    @Override
+    public List<String> getIgnorePackges() {
+        return ignorePackges;
+    }
+
+    @Override
+    public List<String> getIgnoreJarsTerms() {
+        return ignoreJarsTerms;
+    }
+
+    @Override
+    public Path getScanCacheDirectory() {
+        return scanCacheDirectory;
+    }
+
+    @Override
+    public ScanExecutorType getScanExecutorType() {
+        return scanExecutorType;
+    }
+
+    @Override
+    public int getScanParallelism() {
+        return scanParallelism;
+    }
+
+    @Override
+    public int getScanBatchSize() {
+        return scanBatchSize;
+    }
+
+    @Override
+    public Duration getScanTimeout() {
+        return scanTimeout;
+    }
+
+    @Override
+    public ScanMetricsSink getMetricsSink() {
+        return metricsSink;
+    }
+
+    @Override
+    public Duration getWatchDebounce() {
+        return watchDebounce;
+    }
+
+    private static List<String> copyOf(List<String> values) {
+        if (values == null) return List.of();
+        return values.stream().filter(Objects::nonNull).toList();
+    }
+}
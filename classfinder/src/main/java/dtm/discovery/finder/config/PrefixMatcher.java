@@ -0,0 +1,44 @@
+package dtm.discovery.finder.config;
+
+import java.util.Collection;
+
+public final class PrefixMatcher {
+
+    public static final int ROOT = CharTrie.ROOT;
+
+    private final CharTrie trie;
+
+    private PrefixMatcher(CharTrie trie) {
+        this.trie = trie;
+    }
+
+    public static PrefixMatcher of(Collection<String> prefixes) {
+        return new PrefixMatcher(CharTrie.build(prefixes, c -> c));
+    }
+
+    public boolean isEmpty() {
+        return trie.size() == 1 && !trie.terminal[ROOT];
+    }
+
+    public boolean isTerminal(int state) {
+        return trie.terminal[state];
+    }
+
+    public int next(int state, char c) {
+        return trie.next(state, (char) normalize(c));
+    }
+
+    public boolean matches(CharSequence value) {
+        int state = ROOT;
+        for (int i = 0; ; i++) {
+            if (trie.terminal[state]) return true;
+            if (i == value.length()) return false;
+            state = next(state, value.charAt(i));
+            if (state < 0) return false;
+        }
+    }
+
+    private static int normalize(int c) {
+        return (c == '/') ? '.' : c;
+    }
+}
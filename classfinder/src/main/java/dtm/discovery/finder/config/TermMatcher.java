@@ -0,0 +1,53 @@
+package dtm.discovery.finder.config;
+
+import java.util.Collection;
+
+public final class TermMatcher {
+
+    private final CharTrie trie;
+    private final int[] fail;
+    private final boolean[] output;
+
+    private TermMatcher(CharTrie trie) {
+        this.trie = trie;
+        this.fail = new int[trie.size()];
+        this.output = trie.terminal.clone();
+
+        for (int state = 0; state < trie.size(); state++) {
+            for (int edge = trie.edgeStart[state]; edge < trie.edgeStart[state + 1]; edge++) {
+                int target = trie.edgeTargets[edge];
+                if (state != CharTrie.ROOT) {
+                    fail[target] = step(fail[state], trie.edgeChars[edge]);
+                    output[target] |= output[fail[target]];
+                }
+            }
+        }
+    }
+
+    public static TermMatcher of(Collection<String> terms) {
+        return new TermMatcher(CharTrie.build(terms, Character::toLowerCase));
+    }
+
+    public boolean isEmpty() {
+        return trie.size() == 1 && !output[CharTrie.ROOT];
+    }
+
+    public boolean containsAny(CharSequence text) {
+        if (output[CharTrie.ROOT]) return true;
+        int state = CharTrie.ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, Character.toLowerCase(text.charAt(i)));
+            if (output[state]) return true;
+        }
+        return false;
+    }
+
+    private int step(int state, char c) {
+        while (true) {
+            int next = trie.next(state, c);
+            if (next >= 0) return next;
+            if (state == CharTrie.ROOT) return CharTrie.ROOT;
+            state = fail[state];
+        }
+    }
+}
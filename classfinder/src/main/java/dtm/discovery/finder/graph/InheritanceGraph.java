@@ -0,0 +1,88 @@
+package dtm.discovery.finder.graph;
+
+import dtm.discovery.core.ClassInfo;
+import dtm.discovery.finder.bytecode.ClassFileReader;
+import dtm.discovery.finder.bytecode.ClassHeader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class InheritanceGraph {
+
+    private final Map<String, List<String>> directSupertypes;
+    private final Map<String, Set<String>> ancestors;
+
+    public InheritanceGraph() {
+        this.directSupertypes = new ConcurrentHashMap<>();
+        this.ancestors = new ConcurrentHashMap<>();
+    }
+
+    public void register(ClassInfo classInfo) {
+        directSupertypes.putIfAbsent(classInfo.getName(), supertypesOf(classInfo.getSuperclassName(), classInfo.getInterfaceNames()));
+    }
+
+    public boolean isSubtypeOf(String className, String supertypeName, ClassLoader classLoader) {
+        return getAncestors(className, classLoader).contains(supertypeName);
+    }
+
+    public Set<String> getAncestors(String className, ClassLoader classLoader) {
+        Set<String> cached = ancestors.get(className);
+        if (cached != null) return cached;
+
+        Set<String> result = new HashSet<>();
+        collectAncestors(className, classLoader, result, new HashSet<>());
+        Set<String> closure = Collections.unmodifiableSet(result);
+        Set<String> previous = ancestors.putIfAbsent(className, closure);
+        return (previous != null) ? previous : closure;
+    }
+
+    public void clear() {
+        directSupertypes.clear();
+        ancestors.clear();
+    }
+
+    private void collectAncestors(String className, ClassLoader classLoader, Set<String> result, Set<String> visiting) {
+        if (!visiting.add(className)) return;
+        for (String supertype : getDirectSupertypes(className, classLoader)) {
+            if (!result.add(supertype)) continue;
+            Set<String> cached = ancestors.get(supertype);
+            if (cached != null) {
+                result.addAll(cached);
+            } else {
+                collectAncestors(supertype, classLoader, result, visiting);
+            }
+        }
+    }
+
+    private List<String> getDirectSupertypes(String className, ClassLoader classLoader) {
+        List<String> supertypes = directSupertypes.get(className);
+        if (supertypes != null) return supertypes;
+
+        supertypes = List.of();
+        if (classLoader != null) {
+            try (InputStream inputStream = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+                if (inputStream != null) {
+                    ClassHeader header = ClassFileReader.read(inputStream);
+                    supertypes = supertypesOf(header.getSuperName(), header.getInterfaces());
+                }
+            } catch (IOException ignored) {
+            }
+        }
+        List<String> previous = directSupertypes.putIfAbsent(className, supertypes);
+        return (previous != null) ? previous : supertypes;
+    }
+
+    private static List<String> supertypesOf(String superclassName, List<String> interfaceNames) {
+        List<String> supertypes = new ArrayList<>(interfaceNames.size() + 1);
+        if (superclassName != null) supertypes.add(superclassName);
+        supertypes.addAll(interfaceNames);
+        return List.copyOf(supertypes);
+    }
+}
@@ -0,0 +1,96 @@
+package dtm.discovery.finder.index;
+
+import dtm.discovery.finder.bytecode.ClassHeader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+public final class ClassIndex {
+
+    public static final String LOCATION = "META-INF/classfinder/index";
+    private static final String HEADER = "# classfinder-index 1";
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String LIST_SEPARATOR = ",";
+
+    private final List<ClassHeader> classes;
+
+    private ClassIndex(List<ClassHeader> classes) {
+        this.classes = ClassHeader.sortedByName(classes);
+    }
+
+    public List<ClassHeader> getClasses() {
+        return classes;
+    }
+
+    public List<ClassHeader> getClassesInPackage(String packagePrefix) {
+        return ClassHeader.inPackage(classes, packagePrefix);
+    }
+
+    public boolean contains(String className) {
+        int from = 0;
+        int to = classes.size();
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            int compare = classes.get(middle).getName().compareTo(className);
+            if (compare == 0) return true;
+            if (compare < 0) from = middle + 1;
+            else to = middle;
+        }
+        return false;
+    }
+
+    public static ClassIndex read(InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        if (!HEADER.equals(header)) {
+            throw new IOException("Índice de classes inválido: cabeçalho " + header);
+        }
+
+        List<ClassHeader> classes = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) continue;
+            String[] fields = line.split(FIELD_SEPARATOR, -1);
+            if (fields.length != 5) {
+                throw new IOException("Índice de classes inválido: linha " + line);
+            }
+            classes.add(new ClassHeader(
+                    fields[0],
+                    Integer.parseInt(fields[1], 16),
+                    fields[2].isEmpty() ? null : fields[2],
+                    split(fields[3]),
+                    split(fields[4])
+            ));
+        }
+        return new ClassIndex(classes);
+    }
+
+    public static void write(Writer writer, Collection<ClassHeader> classes) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+        for (ClassHeader header : ClassHeader.sortedByName(classes)) {
+            writer.write(header.getName());
+            writer.write(FIELD_SEPARATOR);
+            writer.write(Integer.toHexString(header.getAccessFlags()));
+            writer.write(FIELD_SEPARATOR);
+            writer.write(header.getSuperName() != null ? header.getSuperName() : "");
+            writer.write(FIELD_SEPARATOR);
+            writer.write(String.join(LIST_SEPARATOR, header.getInterfaces()));
+            writer.write(FIELD_SEPARATOR);
+            writer.write(String.join(LIST_SEPARATOR, header.getAnnotations()));
+            writer.write('\n');
+        }
+    }
+
+    private static List<String> split(String field) {
+        return field.isEmpty() ? List.of() : Arrays.asList(field.split(LIST_SEPARATOR));
+    }
+}
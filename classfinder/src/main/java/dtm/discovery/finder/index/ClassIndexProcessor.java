@@ -0,0 +1,167 @@
+package dtm.discovery.finder.index;
+
+import dtm.discovery.finder.bytecode.ClassHeader;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+@SupportedAnnotationTypes("*")
+@SupportedOptions(ClassIndexProcessor.ENABLED_OPTION)
+public class ClassIndexProcessor extends AbstractProcessor {
+
+    public static final String ENABLED_OPTION = "classfinder.index";
+
+    private final Map<String, ClassHeader> indexedClasses = new TreeMap<>();
+    private boolean enabled;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.enabled = "true".equalsIgnoreCase(processingEnv.getOptions().get(ENABLED_OPTION));
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return enabled ? super.getSupportedAnnotationTypes() : Set.of();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!enabled) return false;
+
+        for (Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement typeElement) {
+                register(typeElement);
+            }
+        }
+
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void register(TypeElement type) {
+        String name = binaryName(type);
+        indexedClasses.put(name, new ClassHeader(
+                name,
+                accessFlags(type),
+                superName(type),
+                type.getInterfaces().stream().map(this::binaryName).filter(Objects::nonNull).toList(),
+                type.getAnnotationMirrors().stream().map(this::binaryName).toList()
+        ));
+
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed instanceof TypeElement nested) {
+                register(nested);
+            }
+        }
+    }
+
+    private void writeIndex() {
+        Map<String, ClassHeader> merged = new TreeMap<>();
+        readPreviousIndex(merged);
+        merged.putAll(indexedClasses);
+
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ClassIndex.LOCATION);
+            try (Writer writer = resource.openWriter()) {
+                ClassIndex.write(writer, merged.values());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Não foi possível gravar " + ClassIndex.LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    private void readPreviousIndex(Map<String, ClassHeader> target) {
+        try {
+            FileObject previous = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", ClassIndex.LOCATION);
+            try (InputStream inputStream = previous.openInputStream()) {
+                for (ClassHeader header : ClassIndex.read(inputStream).getClasses()) {
+                    if (indexedClasses.containsKey(header.getName()) || classFileExists(header.getName())) {
+                        target.put(header.getName(), header);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+        }
+    }
+
+    private boolean classFileExists(String className) {
+        int lastDot = className.lastIndexOf('.');
+        String packageName = (lastDot < 0) ? "" : className.substring(0, lastDot);
+        String fileName = className.substring(lastDot + 1) + ".class";
+        try {
+            FileObject classFile = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, packageName, fileName);
+            return classFile.getLastModified() > 0;
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private String superName(TypeElement type) {
+        if (type.getKind() == ElementKind.INTERFACE || type.getKind() == ElementKind.ANNOTATION_TYPE) {
+            return Object.class.getName();
+        }
+        return binaryName(type.getSuperclass());
+    }
+
+    private String binaryName(TypeMirror mirror) {
+        if (mirror.getKind() != TypeKind.DECLARED) return null;
+        return binaryName((TypeElement) ((DeclaredType) mirror).asElement());
+    }
+
+    private String binaryName(AnnotationMirror mirror) {
+        return binaryName(mirror.getAnnotationType());
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private int accessFlags(TypeElement type) {
+        Set<Modifier> modifiers = type.getModifiers();
+        int flags = 0;
+        if (modifiers.contains(Modifier.PUBLIC)) flags |= java.lang.reflect.Modifier.PUBLIC;
+        if (modifiers.contains(Modifier.PROTECTED)) flags |= java.lang.reflect.Modifier.PROTECTED;
+        if (modifiers.contains(Modifier.PRIVATE)) flags |= java.lang.reflect.Modifier.PRIVATE;
+        if (modifiers.contains(Modifier.STATIC)) flags |= java.lang.reflect.Modifier.STATIC;
+        if (modifiers.contains(Modifier.FINAL)) flags |= java.lang.reflect.Modifier.FINAL;
+        if (modifiers.contains(Modifier.ABSTRACT)) flags |= java.lang.reflect.Modifier.ABSTRACT;
+
+        switch (type.getKind()) {
+            case INTERFACE -> flags |= ClassHeader.ACC_INTERFACE | java.lang.reflect.Modifier.ABSTRACT;
+            case ANNOTATION_TYPE -> flags |= ClassHeader.ACC_ANNOTATION | ClassHeader.ACC_INTERFACE | java.lang.reflect.Modifier.ABSTRACT;
+            case ENUM -> flags |= ClassHeader.ACC_ENUM;
+            default -> {}
+        }
+        return flags;
+    }
+}
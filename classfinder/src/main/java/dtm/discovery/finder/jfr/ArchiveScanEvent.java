@@ -0,0 +1,51 @@
+package dtm.discovery.finder.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.net.URL;
+
+@Name("dtm.discovery.ArchiveScan")
+@Label("Archive Scan")
+@Category("ClassFinder")
+@Description("Escaneamento de um JAR, diretório, índice ou módulo, incluindo os JARs internos")
+@StackTrace(false)
+public class ArchiveScanEvent extends Event {
+
+    public static final String JAR = "jar";
+    public static final String DIRECTORY = "directory";
+    public static final String INDEX = "index";
+    public static final String MODULE = "module";
+
+    @Label("Archive")
+    String archive;
+
+    @Label("Package")
+    String packageName;
+
+    @Label("Type")
+    String type;
+
+    @Label("Entries")
+    long entries;
+
+    public static ArchiveScanEvent start() {
+        ArchiveScanEvent event = new ArchiveScanEvent();
+        event.begin();
+        return event;
+    }
+
+    public void end(URL archive, String packageName, String type, long entries) {
+        end();
+        if (!shouldCommit()) return;
+        this.archive = (archive != null) ? archive.toExternalForm() : null;
+        this.packageName = packageName;
+        this.type = type;
+        this.entries = entries;
+        commit();
+    }
+}
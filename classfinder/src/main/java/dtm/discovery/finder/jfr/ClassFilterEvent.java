@@ -0,0 +1,47 @@
+package dtm.discovery.finder.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.net.URL;
+
+@Name("dtm.discovery.ClassFilter")
+@Label("Class Filtered")
+@Category("ClassFinder")
+@Description("Classe descartada por um filtro antes ou depois do carregamento")
+@StackTrace(false)
+public class ClassFilterEvent extends Event {
+
+    public static final String IGNORED_PACKAGE = "ignoredPackage";
+    public static final String ANONYMOUS = "anonymous";
+    public static final String ANNOTATION = "annotation";
+    public static final String CLASS_FILTER = "classFilter";
+    public static final String REJECTED = "rejected";
+    public static final String MALFORMED = "malformed";
+
+    @Label("Class")
+    String className;
+
+    @Label("Archive")
+    String archive;
+
+    @Label("Reason")
+    String reason;
+
+    public static boolean isRecording() {
+        return new ClassFilterEvent().isEnabled();
+    }
+
+    public static void emit(String className, URL archive, String reason) {
+        ClassFilterEvent event = new ClassFilterEvent();
+        if (!event.shouldCommit()) return;
+        event.className = className;
+        event.archive = (archive != null) ? archive.toExternalForm() : null;
+        event.reason = reason;
+        event.commit();
+    }
+}
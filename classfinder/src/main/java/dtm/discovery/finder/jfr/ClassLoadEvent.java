@@ -0,0 +1,46 @@
+package dtm.discovery.finder.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.net.URL;
+
+@Name("dtm.discovery.ClassLoad")
+@Label("Class Load Attempt")
+@Category("ClassFinder")
+@Description("Tentativa de carregar uma classe encontrada no escaneamento")
+@StackTrace(false)
+public class ClassLoadEvent extends Event {
+
+    @Label("Class")
+    String className;
+
+    @Label("Archive")
+    String archive;
+
+    @Label("Loaded")
+    boolean loaded;
+
+    @Label("Failure")
+    String failure;
+
+    public static ClassLoadEvent start() {
+        ClassLoadEvent event = new ClassLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    public void end(String className, URL archive, Throwable failure) {
+        end();
+        if (!shouldCommit()) return;
+        this.className = className;
+        this.archive = (archive != null) ? archive.toExternalForm() : null;
+        this.loaded = failure == null;
+        this.failure = (failure != null) ? failure.getClass().getName() : null;
+        commit();
+    }
+}
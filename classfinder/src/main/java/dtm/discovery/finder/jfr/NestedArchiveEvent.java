@@ -0,0 +1,42 @@
+package dtm.discovery.finder.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.net.URL;
+
+@Name("dtm.discovery.NestedArchive")
+@Label("Nested Archive")
+@Category("ClassFinder")
+@Description("Abertura e escaneamento de um JAR interno a partir do JAR que o contém")
+@StackTrace(false)
+public class NestedArchiveEvent extends Event {
+
+    @Label("Parent Archive")
+    String parentArchive;
+
+    @Label("Entry")
+    String entryName;
+
+    @Label("Archive")
+    String archive;
+
+    public static NestedArchiveEvent start() {
+        NestedArchiveEvent event = new NestedArchiveEvent();
+        event.begin();
+        return event;
+    }
+
+    public void end(URL parentArchive, String entryName, URL archive) {
+        end();
+        if (!shouldCommit()) return;
+        this.parentArchive = (parentArchive != null) ? parentArchive.toExternalForm() : null;
+        this.entryName = entryName;
+        this.archive = (archive != null) ? archive.toExternalForm() : null;
+        commit();
+    }
+}
@@ -0,0 +1,56 @@
+package dtm.discovery.finder.jfr;
+
+import dtm.discovery.core.ScanExecutorType;
+import dtm.discovery.core.ScanStatistics;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("dtm.discovery.Scan")
+@Label("Class Scan")
+@Category("ClassFinder")
+@Description("Busca completa de um pacote, do início ao fim")
+@StackTrace(false)
+public class ScanEvent extends Event {
+
+    @Label("Package")
+    String packageName;
+
+    @Label("Executor")
+    String executorType;
+
+    @Label("Classes Found")
+    int classesFound;
+
+    @Label("Archives Opened")
+    long archivesOpened;
+
+    @Label("Entries Visited")
+    long entriesVisited;
+
+    @Label("Load Failures")
+    long loadFailures;
+
+    public static ScanEvent start() {
+        ScanEvent event = new ScanEvent();
+        event.begin();
+        return event;
+    }
+
+    public void end(String packageName, ScanExecutorType executorType, int classesFound, ScanStatistics statistics) {
+        end();
+        if (!shouldCommit()) return;
+        this.packageName = packageName;
+        this.executorType = (executorType != null) ? executorType.name() : null;
+        this.classesFound = classesFound;
+        if (statistics != null) {
+            this.archivesOpened = statistics.getArchivesOpened();
+            this.entriesVisited = statistics.getEntriesVisited();
+            this.loadFailures = statistics.getLoadFailures();
+        }
+        commit();
+    }
+}
@@ -0,0 +1,37 @@
+package dtm.discovery.finder.processor;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+final class ChildFirstClassLoader extends URLClassLoader {
+
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
+    ChildFirstClassLoader(URL[] urls, ClassLoader parent) {
+        super(urls, parent);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> clazz = findLoadedClass(name);
+            if (clazz == null && !name.startsWith("java.")) {
+                try {
+                    clazz = findClass(name);
+                } catch (ClassNotFoundException ignored) {
+                }
+            }
+            if (clazz == null) return super.loadClass(name, resolve);
+            if (resolve) resolveClass(clazz);
+            return clazz;
+        }
+    }
+
+    @Override
+    public URL getResource(String name) {
+        URL resource = findResource(name);
+        return (resource != null) ? resource : super.getResource(name);
+    }
+}
@@ -0,0 +1,184 @@
+package dtm.discovery.finder.processor;
+
+import dtm.discovery.core.ClassFinderConfigurations;
+import dtm.discovery.core.ClassInfo;
+import dtm.discovery.core.Processor;
+import dtm.discovery.core.ScanExecutor;
+import dtm.discovery.core.ScanStatistics;
+import dtm.discovery.finder.cache.ScanResultCache;
+import dtm.discovery.finder.config.CompiledConfigurations;
+import dtm.discovery.finder.scheduler.ScanScheduler;
+import dtm.discovery.stereotips.ClassFinderStereotips;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public class ClasspathProcessor implements Processor {
+
+    private final Set<Class<?>> processedClasses;
+    private final Set<String> jarProcessed;
+    private final Set<String> scannedRoots;
+    private final CompiledConfigurations configurations;
+    private Predicate<ClassFinderStereotips> acept;
+    private final String classpath;
+    private final String packageName;
+    private final ScanResultCache scanResultCache;
+    private Set<ClassInfo> classInfos;
+    private ScanExecutor scheduler;
+    private ScanScheduler ownedScheduler;
+    private ScanStatistics statistics;
+
+    private Consumer<Throwable> errorAction = e -> {};
+
+    public ClasspathProcessor(
+            Set<Class<?>> processedClasses,
+            Set<String> jarProcessed,
+            String packageName,
+            ClassFinderConfigurations configurations
+    ) {
+        this(processedClasses, jarProcessed, packageName, configurations, null);
+    }
+
+    public ClasspathProcessor(
+            Set<Class<?>> processedClasses,
+            Set<String> jarProcessed,
+            String packageName,
+            ClassFinderConfigurations configurations,
+            ScanResultCache scanResultCache
+    ) {
+        this(processedClasses, jarProcessed, Set.of(), packageName, configurations, scanResultCache);
+    }
+
+    public ClasspathProcessor(
+            Set<Class<?>> processedClasses,
+            Set<String> jarProcessed,
+            Set<String> scannedRoots,
+            String packageName,
+            ClassFinderConfigurations configurations,
+            ScanResultCache scanResultCache
+    ) {
+        this.processedClasses = processedClasses;
+        this.jarProcessed = jarProcessed;
+        this.scannedRoots = scannedRoots;
+        this.configurations = CompiledConfigurations.of(configurations);
+        this.classpath = System.getProperty("java.class.path", "");
+        this.packageName = packageName;
+        this.scanResultCache = scanResultCache;
+        this.ownedScheduler = ScanScheduler.of(configurations);
+        this.scheduler = ownedScheduler;
+    }
+
+    @Override
+    public void execute() throws Exception{
+        if(configurations.ignoreSubJars()) return;
+
+        try {
+            scheduler.forEach(classpathEntries(), 1, entry -> {
+                try {
+                    if (entry.directory()) {
+                        scanDirectory(entry.file());
+                    } else {
+                        scanJar(entry.file());
+                    }
+                } catch (Exception e) {
+                    errorAction.accept(e);
+                }
+            });
+        } finally {
+            if (ownedScheduler != null) ownedScheduler.close();
+        }
+    }
+
+    @Override
+    public void onError(Consumer<Throwable> action) {
+        if(action != null) this.errorAction = action;
+    }
+
+    @Override
+    public void acept(Predicate<ClassFinderStereotips> acept) {
+        this.acept = (acept != null) ? acept : (e) -> true;
+    }
+
+    @Override
+    public void collectClassInfo(Set<ClassInfo> classInfos) {
+        this.classInfos = classInfos;
+    }
+
+    @Override
+    public void useScheduler(ScanExecutor scheduler) {
+        if (scheduler == null) return;
+        if (ownedScheduler != null) ownedScheduler.close();
+        this.scheduler = scheduler;
+        this.ownedScheduler = null;
+    }
+
+    @Override
+    public void recordStatistics(ScanStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    private List<ClasspathEntry> classpathEntries() {
+        Set<String> canonicalPaths = new HashSet<>();
+        List<ClasspathEntry> entries = new ArrayList<>();
+        for (String path : classpath.split(Pattern.quote(File.pathSeparator))) {
+            if (path.isBlank()) continue;
+            File file = new File(path);
+            boolean directory = file.isDirectory();
+            if (!directory && (!path.endsWith(".jar") || !file.isFile() || ignore(path))) continue;
+
+            try {
+                file = file.getCanonicalFile();
+                if (!canonicalPaths.add(file.getPath())) continue;
+                if (scannedRoots.contains(file.toURI().toURL().toExternalForm())) continue;
+            } catch (IOException e) {
+                errorAction.accept(e);
+                continue;
+            }
+            entries.add(new ClasspathEntry(file, directory, directory ? 0 : file.length()));
+        }
+        entries.sort(Comparator.comparingLong(ClasspathEntry::size).reversed());
+        return entries;
+    }
+
+    private void scanJar(File file) throws Exception {
+        if(!jarProcessed.add(file.getPath())) return;
+
+        URL jarUrl = file.toURI().toURL();
+        JarProcessor processor = new JarProcessor(jarUrl, processedClasses, jarProcessed, packageName, configurations, scanResultCache);
+        processor.collectClassInfo(classInfos);
+        processor.useScheduler(scheduler);
+        processor.recordStatistics(statistics);
+        processor.onError(errorAction);
+        processor.acept(acept);
+        processor.execute();
+    }
+
+    private void scanDirectory(File root) throws Exception {
+        File directory = packageName.isEmpty() ? root : new File(root, packageName.replace('.', File.separatorChar));
+        if (!directory.isDirectory()) return;
+
+        DirectoryProcessor processor = new DirectoryProcessor(directory, packageName, processedClasses, configurations, scanResultCache);
+        processor.collectClassInfo(classInfos);
+        processor.useScheduler(scheduler);
+        processor.recordStatistics(statistics);
+        processor.onError(errorAction);
+        processor.acept(acept);
+        processor.execute();
+    }
+
+    private boolean ignore(String jarPath){
+        return configurations.isIgnoredJar(jarPath);
+    }
+
+    private record ClasspathEntry(File file, boolean directory, long size) {
+    }
+}
@@ -0,0 +1,352 @@
+package dtm.discovery.finder.processor;
+
+import dtm.discovery.core.ClassFinderConfigurations;
+import dtm.discovery.core.ClassInfo;
+import dtm.discovery.core.Processor;
+import dtm.discovery.core.ScanExecutor;
+import dtm.discovery.core.ScanStatistics;
+import dtm.discovery.finder.bytecode.ClassFileReader;
+import dtm.discovery.finder.bytecode.ClassHeader;
+import dtm.discovery.finder.cache.ArchiveSnapshot;
+import dtm.discovery.finder.cache.ScanResultCache;
+import dtm.discovery.finder.config.CompiledConfigurations;
+import dtm.discovery.finder.jfr.ArchiveScanEvent;
+import dtm.discovery.finder.jfr.ClassFilterEvent;
+import dtm.discovery.finder.jfr.ClassLoadEvent;
+import dtm.discovery.finder.scheduler.ScanScheduler;
+import dtm.discovery.stereotips.ClassFinderStereotips;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public class DirectoryProcessor implements Processor {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final File root;
+    private final String packageName;
+    private final Set<Class<?>> processedClasses;
+    private final CompiledConfigurations configurations;
+    private final ScanResultCache scanResultCache;
+    private Set<ClassInfo> classInfos;
+    private ScanExecutor scheduler;
+    private ScanScheduler ownedScheduler;
+    private ScanStatistics statistics = new ScanStatistics();
+    private final LongAdder visitedEntries = new LongAdder();
+    private URL rootUrl;
+    private Consumer<Throwable> errorAction = e -> {};
+    private Predicate<ClassFinderStereotips> acept;
+
+    public DirectoryProcessor(
+            File root,
+            String packageName,
+            Set<Class<?>> processedClasses,
+            ClassFinderConfigurations configurations
+    ) {
+        this(root, packageName, processedClasses, configurations, null);
+    }
+
+    public DirectoryProcessor(
+            File root,
+            String packageName,
+            Set<Class<?>> processedClasses,
+            ClassFinderConfigurations configurations,
+            ScanResultCache scanResultCache
+    ) {
+        this.root = root;
+        this.packageName = packageName;
+        this.processedClasses = processedClasses;
+        this.configurations = CompiledConfigurations.of(configurations);
+        this.scanResultCache = scanResultCache;
+        this.ownedScheduler = ScanScheduler.of(configurations);
+        this.scheduler = ownedScheduler;
+    }
+
+    @Override
+    public void execute() throws Exception{
+        if (root == null || !root.isDirectory()) return;
+        rootUrl = root.getAbsoluteFile().toURI().toURL();
+        ScanStatistics.SourceStatistics source = statistics.source(rootUrl.toExternalForm());
+        ArchiveScanEvent event = ArchiveScanEvent.start();
+        long start = System.nanoTime();
+        try {
+            if (scanResultCache != null) {
+                processSnapshot(loadSnapshot(), source);
+            } else {
+                recusiveSearch(root, packageName, source);
+            }
+        } finally {
+            source.addWallTime(System.nanoTime() - start);
+            event.end(rootUrl, packageName, ArchiveScanEvent.DIRECTORY, visitedEntries.sum());
+            if (ownedScheduler != null) ownedScheduler.close();
+        }
+    }
+
+    @Override
+    public void onError(Consumer<Throwable> action) {
+        if(action != null) this.errorAction = action;
+    }
+
+    @Override
+    public void acept(Predicate<ClassFinderStereotips> acept) {
+        this.acept = (acept != null) ? acept : (e) -> true;
+    }
+
+    @Override
+    public void collectClassInfo(Set<ClassInfo> classInfos) {
+        this.classInfos = classInfos;
+    }
+
+    @Override
+    public void useScheduler(ScanExecutor scheduler) {
+        if (scheduler == null) return;
+        if (ownedScheduler != null) ownedScheduler.close();
+        this.scheduler = scheduler;
+        this.ownedScheduler = null;
+    }
+
+    @Override
+    public void recordStatistics(ScanStatistics statistics) {
+        if (statistics != null) this.statistics = statistics;
+    }
+
+    private void recusiveSearch(File directory, String pacote, ScanStatistics.SourceStatistics source){
+        if (directory == null) return;
+
+        try {
+            scheduler.walk(new WalkTask(directory.toPath(), pacote, null), (task, fork) -> {
+                if (task.files() != null) {
+                    loadFiles(task.files(), task.pacote());
+                } else {
+                    visitDirectory(task, fork);
+                }
+            }, source);
+        } catch (Exception e) {
+            errorAction.accept(e);
+        }
+    }
+
+    private void visitDirectory(WalkTask task, Consumer<WalkTask> fork) {
+        statistics.directoryVisited();
+        List<Path> classFiles = new ArrayList<>();
+        int entries = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(task.path())) {
+            for (Path path : stream) {
+                if (scheduler.isCancelled()) break;
+                entries++;
+                String name = path.getFileName().toString();
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    if (attributes.isDirectory()) {
+                        if (acept.test(new PathStereotips(path, ClassFinderStereotips.StereotipsProtocols.DIR))) {
+                            fork.accept(new WalkTask(path, task.pacote().isEmpty() ? name : task.pacote() + "." + name, null));
+                        }
+                    } else if (name.endsWith(CLASS_SUFFIX)) {
+                        classFiles.add(path);
+                    }
+                } catch (IOException e) {
+                    errorAction.accept(e);
+                }
+            }
+        } catch (IOException e) {
+            errorAction.accept(e);
+        }
+        statistics.entriesVisited(entries);
+        visitedEntries.add(entries);
+
+        int batchSize = scheduler.getBatchSize();
+        int start = 0;
+        for (; start + batchSize < classFiles.size(); start += batchSize) {
+            fork.accept(new WalkTask(task.path(), task.pacote(), classFiles.subList(start, start + batchSize)));
+        }
+        loadFiles(classFiles.subList(start, classFiles.size()), task.pacote());
+    }
+
+    private void loadFiles(List<Path> files, String pacote) {
+        for (Path file : files) {
+            if (scheduler.isCancelled()) return;
+            try {
+                String fileName = file.getFileName().toString();
+                String simpleName = fileName.substring(0, fileName.length() - CLASS_SUFFIX.length());
+                String className = pacote.isEmpty() ? simpleName : pacote + "." + simpleName;
+                if (!acept.test(new PathStereotips(file, ClassFinderStereotips.StereotipsProtocols.FILE))) {
+                    ClassFilterEvent.emit(className, rootUrl, ClassFilterEvent.REJECTED);
+                } else if (!configurations.getAnonimousClass() && className.contains("$")) {
+                    ClassFilterEvent.emit(className, rootUrl, ClassFilterEvent.ANONYMOUS);
+                } else if (classInfos != null) {
+                    collect(file);
+                } else if (acceptsHeader(file, className)) {
+                    injectToClassList(loadClass(className));
+                }
+            } catch (Exception e) {
+                errorAction.accept(e);
+            }
+        }
+    }
+
+    private ArchiveSnapshot loadSnapshot() throws IOException {
+        String key = root.getAbsoluteFile().toURI().toString();
+        ArchiveSnapshot snapshot = scanResultCache.get(key);
+        if (snapshot == null) {
+            snapshot = ArchiveSnapshot.scan(root.toPath(), scheduler);
+            if (!scheduler.isCancelled()) scanResultCache.put(key, snapshot);
+        }
+        return snapshot;
+    }
+
+    private void processSnapshot(ArchiveSnapshot snapshot, ScanStatistics.SourceStatistics sourceStatistics) {
+        String prefix = packageName.isEmpty() ? "" : packageName + ".";
+        Map<Path, Boolean> acceptedDirectories = new ConcurrentHashMap<>();
+        int entries = snapshot.getClasses().size() + snapshot.getMalformedClasses().size();
+        statistics.entriesVisited(entries);
+        visitedEntries.add(entries);
+        for (String className : snapshot.getMalformedClasses()) {
+            if (className.startsWith(prefix)) {
+                errorAction.accept(new IOException("Class file malformado: " + className));
+                ClassFilterEvent.emit(className, rootUrl, ClassFilterEvent.MALFORMED);
+            }
+        }
+        try {
+            URL source = root.toURI().toURL();
+            scheduler.forEach(snapshot.getClasses(), scheduler.getBatchSize(), header -> {
+                String className = header.getName();
+                if (!className.startsWith(prefix)) return;
+                if (!configurations.getAnonimousClass() && className.contains("$")) {
+                    ClassFilterEvent.emit(className, rootUrl, ClassFilterEvent.ANONYMOUS);
+                    return;
+                }
+                if (!isAccepted(className.substring(prefix.length()), acceptedDirectories)) {
+                    ClassFilterEvent.emit(className, rootUrl, ClassFilterEvent.REJECTED);
+                    return;
+                }
+                if (classInfos != null) {
+                    collect(header, source);
+                    return;
+                }
+                if (!acceptsHeader(header)) return;
+
+                try {
+                    injectToClassList(loadClass(className));
+                } catch (Exception e) {
+                    errorAction.accept(e);
+                }
+            }, sourceStatistics);
+        } catch (Exception e) {
+            errorAction.accept(e);
+        }
+    }
+
+    private void collect(ClassHeader header, URL source) {
+        ClassInfo info = header.toClassInfo(source, Thread.currentThread().getContextClassLoader());
+        String rejection = configurations.infoRejection(info);
+        if (rejection != null) {
+            ClassFilterEvent.emit(header.getName(), source, rejection);
+            return;
+        }
+        classInfos.add(info);
+    }
+
+    private void collect(Path file) {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            collect(ClassFileReader.read(inputStream), rootUrl);
+        } catch (IOException e) {
+            errorAction.accept(e);
+        }
+    }
+
+    private boolean isAccepted(String relativeName, Map<Path, Boolean> acceptedDirectories) {
+        String[] parts = relativeName.split("\\.");
+        Path current = root.toPath();
+        for (int i = 0; i < parts.length - 1; i++) {
+            current = current.resolve(parts[i]);
+            boolean accepted = acceptedDirectories.computeIfAbsent(current,
+                    directory -> acept.test(new PathStereotips(directory, ClassFinderStereotips.StereotipsProtocols.DIR)));
+            if (!accepted) return false;
+        }
+        Path file = current.resolve(parts[parts.length - 1] + CLASS_SUFFIX);
+        return acept.test(new PathStereotips(file, ClassFinderStereotips.StereotipsProtocols.FILE));
+    }
+
+    private boolean acceptsHeader(ClassHeader header) {
+        String rejection = configurations.headerRejection(header, rootUrl);
+        if (rejection == null) return true;
+        ClassFilterEvent.emit(header.getName(), rootUrl, rejection);
+        return false;
+    }
+
+    private boolean acceptsHeader(Path file, String className) {
+        if (!configurations.filtersHeaders()) return true;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return acceptsHeader(ClassFileReader.read(inputStream));
+        } catch (IOException e) {
+            errorAction.accept(e);
+            ClassFilterEvent.emit(className, rootUrl, ClassFilterEvent.MALFORMED);
+            return false;
+        }
+    }
+
+    private Class<?> loadClass(String className) throws ClassNotFoundException {
+        ClassLoadEvent event = ClassLoadEvent.start();
+        try {
+            Class<?> clazz = Class.forName(className);
+            statistics.classLoaded();
+            event.end(className, rootUrl, null);
+            return clazz;
+        } catch (ClassNotFoundException | LinkageError e) {
+            statistics.loadFailed(e);
+            event.end(className, rootUrl, e);
+            throw e;
+        }
+    }
+
+    private void injectToClassList(Class<?> clazz) {
+        String rejection = configurations.classRejection(clazz);
+        if (rejection == null) {
+            processedClasses.add(clazz);
+        } else {
+            ClassFilterEvent.emit(clazz.getName(), rootUrl, rejection);
+        }
+    }
+
+    private record WalkTask(Path path, String pacote, List<Path> files) {
+    }
+
+    private static final class PathStereotips implements ClassFinderStereotips {
+        private final Path path;
+        private final StereotipsProtocols protocol;
+
+        private PathStereotips(Path path, StereotipsProtocols protocol) {
+            this.path = path;
+            this.protocol = protocol;
+        }
+
+        @Override
+        public URL getArchiverUrl() {
+            try {
+                return path.toUri().toURL();
+            } catch (MalformedURLException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public StereotipsProtocols getArchiverProtocol() {
+            return protocol;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package dtm.discovery.finder.processor;
+
+import dtm.discovery.core.ClassFinderConfigurations;
+import dtm.discovery.core.ClassInfo;
+import dtm.discovery.core.Processor;
+import dtm.discovery.core.ScanExecutor;
+import dtm.discovery.core.ScanStatistics;
+import dtm.discovery.finder.bytecode.ClassFileReader;
+import dtm.discovery.finder.bytecode.ClassHeader;
+import dtm.discovery.finder.config.CompiledConfigurations;
+import dtm.discovery.finder.jfr.ArchiveScanEvent;
+import dtm.discovery.finder.jfr.ClassFilterEvent;
+import dtm.discovery.finder.jfr.ClassLoadEvent;
+import dtm.discovery.finder.scheduler.ScanScheduler;
+import dtm.discovery.finder.zip.MappedZipFile;
+import dtm.discovery.stereotips.ClassFinderStereotips;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public class FastProjectJarProcessor implements Processor {
+
+    private static final byte[] CLASS_SUFFIX = ".class".getBytes(StandardCharsets.UTF_8);
+
+    private final URL jarUrl;
+    private final Set<Class<?>> processedClasses;
+    private final CompiledConfigurations configurations;
+    private final String packageName;
+    private final String packagePath;
+    private Set<ClassInfo> classInfos;
+    private ScanExecutor scheduler;
+    private ScanScheduler ownedScheduler;
+    private ScanStatistics statistics = new ScanStatistics();
+    private Predicate<ClassFinderStereotips> acept;
+    private Consumer<Throwable> errorAction = e -> {};
+
+    public FastProjectJarProcessor(
+            URL jarUrl,
+            Set<Class<?>> processedClasses,
+            String packageName,
+            ClassFinderConfigurations configurations
+    ) {
+        this.jarUrl = jarUrl;
+        this.processedClasses = processedClasses;
+        this.configurations = CompiledConfigurations.of(configurations);
+        this.packageName = packageName;
+        this.ownedScheduler = ScanScheduler.of(configurations);
+        this.scheduler = ownedScheduler;
+        String path = packageName.replace('.', '/');
+        if (!path.endsWith("/")) {
+            path += "/";
+        }
+        this.packagePath = path;
+    }
+
+
+    @Override
+    public void execute() throws Exception {
+        if (acept != null && !acept.test(new ClassFinderStereotips() {
+            @Override
+            public URL getArchiverUrl() { return jarUrl; }
+            @Override
+            public StereotipsProtocols getArchiverProtocol() { return StereotipsProtocols.JAR; }
+        })) return;
+
+        ScanStatistics.SourceStatistics source = statistics.source(jarUrl.toExternalForm());
+        ArchiveScanEvent event = ArchiveScanEvent.start();
+        int entries = 0;
+        long start = System.nanoTime();
+        try (MappedZipFile zipFile = MappedZipFile.open(Paths.get(jarUrl.toURI()))) {
+            statistics.archiveOpened();
+            int[] packageEntries = zipFile.entriesStartingWith(packagePath.getBytes(StandardCharsets.UTF_8));
+            statistics.entriesVisited(packageEntries.length);
+            entries = packageEntries.length;
+            scheduler.forEach(packageEntries.length, scheduler.getBatchSize(), i -> {
+                int entry = packageEntries[i];
+                if (zipFile.isDirectory(entry) || !zipFile.nameEndsWith(entry, CLASS_SUFFIX)) {
+                    return;
+                }
+
+                processEntry(zipFile, entry);
+            }, source);
+
+        } catch (Exception e) {
+            errorAction.accept(e);
+        } finally {
+            source.addWallTime(System.nanoTime() - start);
+            event.end(jarUrl, packageName, ArchiveScanEvent.JAR, entries);
+            if (ownedScheduler != null) ownedScheduler.close();
+        }
+    }
+
+    @Override
+    public void onError(Consumer<Throwable> action) {
+        if (action != null) this.errorAction = action;
+    }
+
+    @Override
+    public void acept(Predicate<ClassFinderStereotips> acept) {
+        this.acept = acept;
+    }
+
+    @Override
+    public void collectClassInfo(Set<ClassInfo> classInfos) {
+        this.classInfos = classInfos;
+    }
+
+    @Override
+    public void useScheduler(ScanExecutor scheduler) {
+        if (scheduler == null) return;
+        if (ownedScheduler != null) ownedScheduler.close();
+        this.scheduler = scheduler;
+        this.ownedScheduler = null;
+    }
+
+    @Override
+    public void recordStatistics(ScanStatistics statistics) {
+        if (statistics != null) this.statistics = statistics;
+    }
+
+    private void processEntry(MappedZipFile zipFile, int entry) {
+        try {
+            if (configurations.isIgnoredPackage(zipFile, entry, CLASS_SUFFIX.length)) {
+                statistics.entryIgnored();
+                if (ClassFilterEvent.isRecording()) {
+                    ClassFilterEvent.emit(toClassName(zipFile.getName(entry)), jarUrl, ClassFilterEvent.IGNORED_PACKAGE);
+                }
+                return;
+            }
+
+            String className = toClassName(zipFile.getName(entry));
+
+            if (!configurations.getAnonimousClass() && className.contains("$")) {
+                ClassFilterEvent.emit(className, jarUrl, ClassFilterEvent.ANONYMOUS);
+                return;
+            }
+
+            if (classInfos != null) {
+                collect(ClassFileReader.read(zipFile.getBytes(entry)), jarUrl);
+                return;
+            }
+
+            if (configurations.filtersHeaders()) {
+                String rejection = configurations.headerRejection(ClassFileReader.read(zipFile.getBytes(entry)), jarUrl);
+                if (rejection != null) {
+                    ClassFilterEvent.emit(className, jarUrl, rejection);
+                    return;
+                }
+            }
+
+            Class<?> clazz = tryLoad(className, jarUrl);
+            if (clazz != null) {
+                injectToClassList(clazz, jarUrl);
+            }
+        } catch (Exception e) {
+            errorAction.accept(e);
+        }
+    }
+
+    private void collect(ClassHeader header, URL source) {
+        ClassInfo info = header.toClassInfo(source, Thread.currentThread().getContextClassLoader());
+        String rejection = configurations.infoRejection(info);
+        if (rejection != null) {
+            ClassFilterEvent.emit(header.getName(), source, rejection);
+            return;
+        }
+        classInfos.add(info);
+    }
+
+    private Class<?> tryLoad(String className, URL source) {
+        ClassLoadEvent event = ClassLoadEvent.start();
+        try {
+            Class<?> clazz = Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+            statistics.classLoaded();
+            event.end(className, source, null);
+            return clazz;
+        } catch (ClassNotFoundException | LinkageError e) {
+            statistics.loadFailed(e);
+            event.end(className, source, e);
+            return null;
+        } catch (Exception e) {
+            statistics.loadFailed(e);
+            event.end(className, source, e);
+            errorAction.accept(e);
+            return null;
+        }
+    }
+
+    private void injectToClassList(Class<?> clazz, URL source) {
+        String rejection = configurations.classRejection(clazz);
+        if (rejection == null) {
+            processedClasses.add(clazz);
+        } else {
+            ClassFilterEvent.emit(clazz.getName(), source, rejection);
+        }
+    }
+
+    private static String toClassName(String entryName) {
+        return entryName.substring(0, entryName.length() - CLASS_SUFFIX.length).replace('/', '.');
+    }
+}
@@ -0,0 +1,259 @@
+package dtm.discovery.finder.processor;
+
+import dtm.discovery.core.ClassFinderConfigurations;
+import dtm.discovery.core.ClassInfo;
+import dtm.discovery.core.Processor;
+import dtm.discovery.core.ScanExecutor;
+import dtm.discovery.core.ScanStatistics;
+import dtm.discovery.finder.bytecode.ClassFileReader;
+import dtm.discovery.finder.bytecode.ClassHeader;
+import dtm.discovery.finder.config.CompiledConfigurations;
+import dtm.discovery.finder.index.ClassIndex;
+import dtm.discovery.finder.jfr.ArchiveScanEvent;
+import dtm.discovery.finder.jfr.ClassFilterEvent;
+import dtm.discovery.finder.jfr.ClassLoadEvent;
+import dtm.discovery.finder.scheduler.ScanScheduler;
+import dtm.discovery.finder.zip.MappedZipFile;
+import dtm.discovery.stereotips.ClassFinderStereotips;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public class IndexProcessor implements Processor {
+
+    private static final byte[] VERSIONS_PREFIX = "META-INF/versions/".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CLASS_SUFFIX = ".class".getBytes(StandardCharsets.UTF_8);
+
+    private final URL rootUrl;
+    private final ClassIndex index;
+    private final Set<Class<?>> processedClasses;
+    private final String packageName;
+    private final CompiledConfigurations configurations;
+    private final boolean directory;
+    private Set<ClassInfo> classInfos;
+    private ScanExecutor scheduler;
+    private ScanScheduler ownedScheduler;
+    private ScanStatistics statistics = new ScanStatistics();
+    private Predicate<ClassFinderStereotips> acept;
+    private Consumer<Throwable> errorAction = e -> {};
+
+    public IndexProcessor(
+            URL rootUrl,
+            ClassIndex index,
+            Set<Class<?>> processedClasses,
+            String packageName,
+            ClassFinderConfigurations configurations,
+            boolean directory
+    ) {
+        this.rootUrl = rootUrl;
+        this.index = index;
+        this.processedClasses = processedClasses;
+        this.packageName = packageName;
+        this.configurations = CompiledConfigurations.of(configurations);
+        this.directory = directory;
+        this.ownedScheduler = ScanScheduler.of(configurations);
+        this.scheduler = ownedScheduler;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        if (acept != null && !acept.test(new ClassFinderStereotips() {
+            @Override
+            public URL getArchiverUrl() { return rootUrl; }
+            @Override
+            public StereotipsProtocols getArchiverProtocol() { return directory ? StereotipsProtocols.DIR : StereotipsProtocols.JAR; }
+        })) return;
+
+        String packagePrefix = packageName.isEmpty() ? "" : packageName + ".";
+        boolean restrictToPackage = directory || !configurations.getAllElements();
+
+        ScanStatistics.SourceStatistics source = statistics.source(rootUrl.toExternalForm());
+        ArchiveScanEvent event = ArchiveScanEvent.start();
+        long start = System.nanoTime();
+        List<ClassHeader> classes = restrictToPackage ? index.getClassesInPackage(packagePrefix) : index.getClasses();
+        statistics.entriesVisited(classes.size());
+        int entries = classes.size();
+        try {
+            scheduler.forEach(classes, scheduler.getBatchSize(), this::process, source);
+            if (configurations.getAnonimousClass()) {
+                entries += directory ? scanUnindexedDirectory(source) : scanUnindexedJar(restrictToPackage, source);
+            }
+        } finally {
+            source.addWallTime(System.nanoTime() - start);
+            event.end(rootUrl, packageName, ArchiveScanEvent.INDEX, entries);
+            if (ownedScheduler != null) ownedScheduler.close();
+        }
+    }
+
+    @Override
+    public void onError(Consumer<Throwable> action) {
+        if (action != null) this.errorAction = action;
+    }
+
+    @Override
+    public void acept(Predicate<ClassFinderStereotips> acept) {
+        this.acept = acept;
+    }
+
+    @Override
+    public void collectClassInfo(Set<ClassInfo> classInfos) {
+        this.classInfos = classInfos;
+    }
+
+    @Override
+    public void useScheduler(ScanExecutor scheduler) {
+        if (scheduler == null) return;
+        if (ownedScheduler != null) ownedScheduler.close();
+        this.scheduler = scheduler;
+        this.ownedScheduler = null;
+    }
+
+    @Override
+    public void recordStatistics(ScanStatistics statistics) {
+        if (statistics != null) this.statistics = statistics;
+    }
+
+    private void process(ClassHeader header) {
+        String className = header.getName();
+        if (!directory && ignore(className)) {
+            ClassFilterEvent.emit(className, rootUrl, ClassFilterEvent.IGNORED_PACKAGE);
+            return;
+        }
+        if (!configurations.getAnonimousClass() && className.contains("$")) {
+            ClassFilterEvent.emit(className, rootUrl, ClassFilterEvent.ANONYMOUS);
+            return;
+        }
+        if (classInfos != null) {
+            collect(header, rootUrl);
+            return;
+        }
+        String rejection = configurations.headerRejection(header, rootUrl);
+        if (rejection != null) {
+            ClassFilterEvent.emit(className, rootUrl, rejection);
+            return;
+        }
+
+        Class<?> clazz = tryLoad(className, rootUrl);
+        if (clazz != null) {
+            injectToClassList(clazz, rootUrl);
+        }
+    }
+
+    private int scanUnindexedJar(boolean restrictToPackage, ScanStatistics.SourceStatistics source) throws Exception {
+        try (MappedZipFile zipFile = MappedZipFile.open(Paths.get(rootUrl.toURI()))) {
+            int[] range = restrictToPackage && !packageName.isEmpty()
+                    ? zipFile.entriesStartingWith((packageName.replace('.', '/') + "/").getBytes(StandardCharsets.UTF_8))
+                    : null;
+            int count = (range != null) ? range.length : zipFile.size();
+            statistics.entriesVisited(count);
+            scheduler.forEach(count, scheduler.getBatchSize(), i -> {
+                int entry = (range != null) ? range[i] : i;
+                if (!zipFile.nameContains(entry, (byte) '$')
+                        || !zipFile.nameEndsWith(entry, CLASS_SUFFIX)
+                        || zipFile.nameStartsWithIgnoreCase(entry, VERSIONS_PREFIX)) {
+                    return;
+                }
+                String entryName = zipFile.getName(entry);
+                if (index.contains(entryName.substring(0, entryName.length() - CLASS_SUFFIX.length).replace('/', '.'))) return;
+                try {
+                    process(ClassFileReader.read(zipFile.getBytes(entry)));
+                } catch (IOException e) {
+                    errorAction.accept(e);
+                }
+            }, source);
+            return count;
+        }
+    }
+
+    private int scanUnindexedDirectory(ScanStatistics.SourceStatistics source) throws Exception {
+        Path root = Paths.get(rootUrl.toURI());
+        LongAdder entries = new LongAdder();
+        scheduler.walk(root, (directoryPath, fork) -> {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directoryPath)) {
+                for (Path path : stream) {
+                    if (scheduler.isCancelled()) break;
+                    entries.increment();
+                    String fileName = path.getFileName().toString();
+                    if (Files.isDirectory(path)) {
+                        fork.accept(path);
+                    } else if (fileName.indexOf('$') >= 0 && fileName.endsWith(".class")) {
+                        processUnindexedFile(root, path);
+                    }
+                }
+            } catch (IOException e) {
+                errorAction.accept(e);
+            }
+        }, source);
+        statistics.entriesVisited(entries.sum());
+        return entries.intValue();
+    }
+
+    private void processUnindexedFile(Path root, Path file) {
+        String relative = root.relativize(file).toString().replace(File.separatorChar, '.');
+        String simpleName = relative.substring(0, relative.length() - ".class".length());
+        if (index.contains(packageName.isEmpty() ? simpleName : packageName + "." + simpleName)) return;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            process(ClassFileReader.read(inputStream));
+        } catch (IOException e) {
+            errorAction.accept(e);
+        }
+    }
+
+    private void collect(ClassHeader header, URL source) {
+        ClassInfo info = header.toClassInfo(source, Thread.currentThread().getContextClassLoader());
+        String rejection = configurations.infoRejection(info);
+        if (rejection != null) {
+            ClassFilterEvent.emit(header.getName(), source, rejection);
+            return;
+        }
+        classInfos.add(info);
+    }
+
+    private Class<?> tryLoad(String className, URL source) {
+        ClassLoadEvent event = ClassLoadEvent.start();
+        try {
+            Class<?> clazz = Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+            statistics.classLoaded();
+            event.end(className, source, null);
+            return clazz;
+        } catch (ClassNotFoundException | LinkageError e) {
+            statistics.loadFailed(e);
+            event.end(className, source, e);
+            return null;
+        } catch (Exception e) {
+            statistics.loadFailed(e);
+            event.end(className, source, e);
+            errorAction.accept(e);
+            return null;
+        }
+    }
+
+    private void injectToClassList(Class<?> clazz, URL source) {
+        String rejection = configurations.classRejection(clazz);
+        if (rejection == null) {
+            processedClasses.add(clazz);
+        } else {
+            ClassFilterEvent.emit(clazz.getName(), source, rejection);
+        }
+    }
+
+    private boolean ignore(String className) {
+        if (configurations.isIgnoredPackage(className)) {
+            statistics.entryIgnored();
+            return true;
+        }
+        return false;
+    }
+}
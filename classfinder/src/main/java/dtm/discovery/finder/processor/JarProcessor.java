@@ -0,0 +1,417 @@
+package dtm.discovery.finder.processor;
+
+import dtm.discovery.core.ClassFinderConfigurations;
+import dtm.discovery.core.ClassInfo;
+import dtm.discovery.core.Processor;
+import dtm.discovery.core.ScanExecutor;
+import dtm.discovery.core.ScanStatistics;
+import dtm.discovery.finder.bytecode.ClassFileReader;
+import dtm.discovery.finder.bytecode.ClassHeader;
+import dtm.discovery.finder.cache.ArchiveSnapshot;
+import dtm.discovery.finder.cache.ContentFingerprint;
+import dtm.discovery.finder.cache.ScanCache;
+import dtm.discovery.finder.cache.ScanResultCache;
+import dtm.discovery.finder.config.CompiledConfigurations;
+import dtm.discovery.finder.jfr.ArchiveScanEvent;
+import dtm.discovery.finder.jfr.ClassFilterEvent;
+import dtm.discovery.finder.jfr.ClassLoadEvent;
+import dtm.discovery.finder.jfr.NestedArchiveEvent;
+import dtm.discovery.finder.scheduler.ScanScheduler;
+import dtm.discovery.stereotips.ClassFinderStereotips;
+import dtm.discovery.finder.zip.MappedZipFile;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public class JarProcessor implements Processor {
+
+    private static final byte[] VERSIONS_PREFIX = "META-INF/versions/".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MODULE_INFO_SUFFIX = "module-info.class".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CLASS_SUFFIX = ".class".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JAR_SUFFIX = ".jar".getBytes(StandardCharsets.UTF_8);
+
+    private final URL jarUrl;
+    private final Set<Class<?>> processedClasses;
+    private final Set<String> jarProcessed;
+    private final CompiledConfigurations configurations;
+    private Predicate<ClassFinderStereotips> acept;
+    private final String packageName;
+    private final ScanCache scanCache;
+    private final ScanResultCache scanResultCache;
+    private Set<ClassInfo> classInfos;
+    private ScanExecutor scheduler;
+    private ScanScheduler ownedScheduler;
+    private ScanStatistics statistics = new ScanStatistics();
+    private Consumer<Throwable> errorAction = e -> {};
+
+    public JarProcessor(
+            URL jarUrl,
+            Set<Class<?>> processedClasses,
+            Set<String> jarProcessed,
+            String packageName,
+            ClassFinderConfigurations configurations
+    ) {
+        this(jarUrl, processedClasses, jarProcessed, packageName, configurations, null);
+    }
+
+    public JarProcessor(
+            URL jarUrl,
+            Set<Class<?>> processedClasses,
+            Set<String> jarProcessed,
+            String packageName,
+            ClassFinderConfigurations configurations,
+            ScanResultCache scanResultCache
+    ) {
+        this.jarUrl = jarUrl;
+        this.processedClasses = processedClasses;
+        this.jarProcessed = jarProcessed;
+        this.configurations = CompiledConfigurations.of(configurations);
+        this.packageName = packageName;
+        this.ownedScheduler = ScanScheduler.of(configurations);
+        this.scheduler = ownedScheduler;
+        Path scanCacheDirectory = this.configurations.getScanCacheDirectory();
+        this.scanCache = (scanCacheDirectory != null) ? new ScanCache(scanCacheDirectory) : null;
+        this.scanResultCache = scanResultCache;
+    }
+
+
+    @Override
+    public void execute() throws Exception{
+        try {
+            CompletableFuture<Void> future = encontrarClassesNoPacoteDentroDoJar(jarUrl, packageName, true);
+            future.join();
+        } finally {
+            if (ownedScheduler != null) ownedScheduler.close();
+        }
+    }
+
+    @Override
+    public void onError(Consumer<Throwable> action) {
+        if(action != null) this.errorAction = action;
+    }
+
+    @Override
+    public void acept(Predicate<ClassFinderStereotips> acept) {
+        this.acept = (acept != null) ? acept : (e) -> true;
+    }
+
+    @Override
+    public void collectClassInfo(Set<ClassInfo> classInfos) {
+        this.classInfos = classInfos;
+    }
+
+    @Override
+    public void useScheduler(ScanExecutor scheduler) {
+        if (scheduler == null) return;
+        if (ownedScheduler != null) ownedScheduler.close();
+        this.scheduler = scheduler;
+        this.ownedScheduler = null;
+    }
+
+    @Override
+    public void recordStatistics(ScanStatistics statistics) {
+        if (statistics != null) this.statistics = statistics;
+    }
+
+    private CompletableFuture<Void> encontrarClassesNoPacoteDentroDoJar(URL jarUrl, String pacote, boolean ismainJar) {
+        if(!isAccepted(jarUrl)) return CompletableFuture.completedFuture(null);
+
+        try(MappedZipFile zipFile = MappedZipFile.open(Paths.get(jarUrl.toURI()))) {
+            statistics.archiveOpened();
+            scanArchive(zipFile, jarUrl, pacote, ismainJar);
+        } catch (Exception e) {
+            errorAction.accept(e);
+        }
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void scanArchive(MappedZipFile zipFile, URL jarUrl, String pacote, boolean ismainJar) throws Exception {
+        ContentFingerprint fingerprint = ContentFingerprint.of(zipFile);
+        String contentKey = scansSubJars(ismainJar) ? fingerprint.toKey() + "+nested" : fingerprint.toKey();
+        if (!jarProcessed.add(contentKey)) {
+            statistics.archiveDeduplicated();
+            return;
+        }
+
+        ScanStatistics.SourceStatistics source = statistics.source(jarUrl.toExternalForm());
+        ArchiveScanEvent event = ArchiveScanEvent.start();
+        long start = System.nanoTime();
+        try {
+            if (scanCache != null || scanResultCache != null) {
+                processSnapshot(loadSnapshot(zipFile, jarUrl, pacote, fingerprint), zipFile, jarUrl, pacote, ismainJar, source);
+            } else {
+                scanEntries(zipFile, jarUrl, pacote, ismainJar, source);
+            }
+        } finally {
+            source.addWallTime(System.nanoTime() - start);
+            event.end(jarUrl, pacote, ArchiveScanEvent.JAR, zipFile.size());
+        }
+    }
+
+    private void scanEntries(MappedZipFile zipFile, URL jarUrl, String pacote, boolean ismainJar, ScanStatistics.SourceStatistics source) {
+        if (!configurations.getAllElements()) {
+            scanPackageRange(zipFile, jarUrl, pacote, ismainJar, source);
+            return;
+        }
+
+        statistics.entriesVisited(zipFile.size());
+        scheduler.forEach(zipFile.size(), scheduler.getBatchSize(), entry -> {
+            try {
+                if (zipFile.nameStartsWithIgnoreCase(entry, VERSIONS_PREFIX) || zipFile.nameEndsWith(entry, MODULE_INFO_SUFFIX)) {
+                    return;
+                }
+
+                if (zipFile.nameEndsWith(entry, CLASS_SUFFIX)) {
+                    processClassEntry(zipFile, entry, jarUrl);
+                } else if (zipFile.nameEndsWith(entry, JAR_SUFFIX)) {
+                    processSubJar(zipFile, entry, jarUrl, pacote, ismainJar);
+                }
+            } catch (Exception e) {
+                errorAction.accept(e);
+            }
+        }, source);
+    }
+
+    private void scanPackageRange(MappedZipFile zipFile, URL jarUrl, String pacote, boolean ismainJar, ScanStatistics.SourceStatistics source) {
+        int[] packageEntries = zipFile.entriesStartingWith(pacote.replace('.', '/').getBytes(StandardCharsets.UTF_8));
+        int[] nestedJars = scansSubJars(ismainJar) ? zipFile.entriesEndingWith(JAR_SUFFIX) : new int[0];
+        statistics.entriesVisited(packageEntries.length + nestedJars.length);
+        scheduler.forEach(packageEntries.length, scheduler.getBatchSize(), i -> {
+            int entry = packageEntries[i];
+            try {
+                if (zipFile.nameStartsWithIgnoreCase(entry, VERSIONS_PREFIX) || zipFile.nameEndsWith(entry, MODULE_INFO_SUFFIX)) {
+                    return;
+                }
+
+                if (zipFile.nameEndsWith(entry, CLASS_SUFFIX)) {
+                    processClassEntry(zipFile, entry, jarUrl);
+                }
+            } catch (Exception e) {
+                errorAction.accept(e);
+            }
+        }, source);
+        scheduler.forEach(nestedJars.length, 1, i -> {
+            int entry = nestedJars[i];
+            try {
+                if (!zipFile.nameStartsWithIgnoreCase(entry, VERSIONS_PREFIX)) {
+                    processSubJar(zipFile, entry, jarUrl, pacote, ismainJar);
+                }
+            } catch (Exception e) {
+                errorAction.accept(e);
+            }
+        });
+    }
+
+    private void processClassEntry(MappedZipFile zipFile, int entry, URL jarUrl) {
+        if (configurations.isIgnoredPackage(zipFile, entry, CLASS_SUFFIX.length)) {
+            statistics.entryIgnored();
+            if (ClassFilterEvent.isRecording()) filtered(toClassName(zipFile.getName(entry)), jarUrl, ClassFilterEvent.IGNORED_PACKAGE);
+            return;
+        }
+        String className = toClassName(zipFile.getName(entry));
+        if (!acceptsAnonymous(className, jarUrl)) return;
+        if (classInfos != null) {
+            try {
+                collect(ClassFileReader.read(zipFile.getBytes(entry)), jarUrl);
+            } catch (IOException e) {
+                errorAction.accept(e);
+            }
+        } else if (acceptsHeader(zipFile, entry, jarUrl)) {
+            loadAndInject(className, jarUrl);
+        }
+    }
+
+    private ArchiveSnapshot loadSnapshot(MappedZipFile zipFile, URL jarUrl, String pacote, ContentFingerprint fingerprint) throws Exception {
+        String key = fingerprint.toKey();
+        String packageKey = key + "#" + pacote;
+        boolean packageOnly = !configurations.getAllElements() && scanCache == null;
+        ArchiveSnapshot snapshot = (scanResultCache != null) ? scanResultCache.get(key, packageOnly ? packageKey : null) : null;
+        if (snapshot != null) return snapshot;
+
+        if (scanCache != null && "file".equalsIgnoreCase(jarUrl.getProtocol())) {
+            snapshot = scanCache.getOrScan(Paths.get(jarUrl.toURI()), scheduler, errorAction);
+        } else if (packageOnly) {
+            snapshot = ArchiveSnapshot.scan(zipFile, pacote, scheduler);
+        } else {
+            snapshot = ArchiveSnapshot.scan(zipFile, scheduler);
+        }
+
+        if (scanResultCache != null && !scheduler.isCancelled()) scanResultCache.put(packageOnly ? packageKey : key, snapshot);
+        return snapshot;
+    }
+
+    private void processSnapshot(ArchiveSnapshot snapshot, MappedZipFile zipFile, URL jarUrl, String pacote, boolean ismainJar, ScanStatistics.SourceStatistics source) {
+        List<ClassHeader> classes = configurations.getAllElements() ? snapshot.getClasses() : snapshot.getClassesInPackage(pacote);
+        List<String> malformed = configurations.getAllElements() ? snapshot.getMalformedClasses() : snapshot.getMalformedClassesInPackage(pacote);
+        statistics.entriesVisited(classes.size() + malformed.size() + snapshot.getNestedJars().size());
+        for (String className : malformed) {
+            if (isCandidate(className, jarUrl)) {
+                errorAction.accept(new IOException("Class file malformado: " + className));
+                filtered(className, jarUrl, ClassFilterEvent.MALFORMED);
+            }
+        }
+        scheduler.forEach(classes, scheduler.getBatchSize(), header -> {
+            String className = header.getName();
+            if (isCandidate(className, jarUrl)) {
+                if (classInfos != null) {
+                    collect(header, jarUrl);
+                } else if (acceptsHeader(header, jarUrl)) {
+                    loadAndInject(className, jarUrl);
+                }
+            }
+        }, source);
+        scheduler.forEach(snapshot.getNestedJars(), 1, entryName -> {
+            try {
+                int entry = zipFile.indexOf(entryName);
+                if (entry >= 0) processSubJar(zipFile, entry, jarUrl, pacote, ismainJar);
+            } catch (Exception e) {
+                errorAction.accept(e);
+            }
+        });
+    }
+
+    private void processSubJar(MappedZipFile zipFile, int entry, URL jarUrl, String pacote, boolean ismainJar) throws Exception {
+        if (scansSubJars(ismainJar)) {
+            String parentPath = "file".equalsIgnoreCase(jarUrl.getProtocol())
+                    ? "jar:file:" + jarUrl.getFile().replace("\\", "/")
+                    : jarUrl.toExternalForm();
+            String jarInternalPath = parentPath + "!/" + zipFile.getName(entry);
+            String decodedPath = URLDecoder.decode(jarInternalPath, StandardCharsets.UTF_8);
+
+            if (ignoreJar(decodedPath, ismainJar)) return;
+            URL jarUrlInternal = URI.create(decodedPath).toURL();
+            String jarKey = jarUrlInternal.toExternalForm();
+            if (jarProcessed.add(jarKey) && isAccepted(jarUrlInternal)) {
+                NestedArchiveEvent event = NestedArchiveEvent.start();
+                try (MappedZipFile nestedZipFile = zipFile.openNested(entry)) {
+                    statistics.archiveOpened();
+                    scanArchive(nestedZipFile, jarUrlInternal, pacote, false);
+                } finally {
+                    event.end(jarUrl, zipFile.getName(entry), jarUrlInternal);
+                }
+            }
+        }
+    }
+
+    private boolean scansSubJars(boolean ismainJar) {
+        return !configurations.ignoreSubJars() || (ismainJar && !configurations.ignoreMainJar());
+    }
+
+    private boolean isAccepted(URL jarUrl) {
+        return acept.test(new ClassFinderStereotips() {
+            @Override
+            public URL getArchiverUrl() {
+                return jarUrl;
+            }
+
+            @Override
+            public StereotipsProtocols getArchiverProtocol() {
+                return StereotipsProtocols.JAR;
+            }
+        });
+    }
+
+    private boolean isCandidate(String className, URL source) {
+        if (configurations.isIgnoredPackage(className)) {
+            statistics.entryIgnored();
+            return filtered(className, source, ClassFilterEvent.IGNORED_PACKAGE);
+        }
+        return acceptsAnonymous(className, source);
+    }
+
+    private boolean acceptsAnonymous(String className, URL source) {
+        if (!configurations.getAnonimousClass() && className.contains("$")) {
+            return filtered(className, source, ClassFilterEvent.ANONYMOUS);
+        }
+        return true;
+    }
+
+    private static String toClassName(String entryName) {
+        return entryName.substring(0, entryName.length() - CLASS_SUFFIX.length).replace('/', '.');
+    }
+
+    private boolean filtered(String className, URL source, String reason) {
+        ClassFilterEvent.emit(className, source, reason);
+        return false;
+    }
+
+    private void collect(ClassHeader header, URL source) {
+        ClassInfo info = header.toClassInfo(source, Thread.currentThread().getContextClassLoader());
+        String rejection = configurations.infoRejection(info);
+        if (rejection != null) {
+            filtered(header.getName(), source, rejection);
+            return;
+        }
+        classInfos.add(info);
+    }
+
+    private void loadAndInject(String className, URL source) {
+        Class<?> clazz = tryLoad(className, source);
+        if (clazz != null) {
+            injectToClassList(clazz, source);
+        }
+    }
+
+    private void injectToClassList(Class<?> clazz, URL source) {
+        String rejection = configurations.classRejection(clazz);
+        if (rejection == null) {
+            processedClasses.add(clazz);
+        } else {
+            filtered(clazz.getName(), source, rejection);
+        }
+    }
+
+    private boolean acceptsHeader(MappedZipFile zipFile, int entry, URL source) {
+        if (!configurations.filtersHeaders()) return true;
+        try {
+            return acceptsHeader(ClassFileReader.read(zipFile.getBytes(entry)), source);
+        } catch (IOException e) {
+            errorAction.accept(e);
+            return filtered(toClassName(zipFile.getName(entry)), source, ClassFilterEvent.MALFORMED);
+        }
+    }
+
+    private boolean acceptsHeader(ClassHeader header, URL source) {
+        String rejection = configurations.headerRejection(header, source);
+        return rejection == null || filtered(header.getName(), source, rejection);
+    }
+
+    private Class<?> tryLoad(String className, URL source){
+        try {
+            Class<?> clazz = null;
+            ClassLoadEvent event = ClassLoadEvent.start();
+            try {
+                clazz = Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+                statistics.classLoaded();
+                event.end(className, source, null);
+                return clazz;
+            } catch (ClassNotFoundException | LinkageError e){
+                statistics.loadFailed(e);
+                event.end(className, source, e);
+            } catch (Exception e) {
+                statistics.loadFailed(e);
+                event.end(className, source, e);
+                errorAction.accept(e);
+            }
+        } catch (Exception e) {
+            errorAction.accept(e);
+        }
+        return null;
+    }
+
+    private boolean ignoreJar(String jarPath, boolean isMainJar){
+        if(isMainJar && !configurations.ignoreMainJar()) return false;
+
+        return configurations.isIgnoredJar(jarPath);
+    }
+
+}
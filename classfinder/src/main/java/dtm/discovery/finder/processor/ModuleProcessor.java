@@ -0,0 +1,288 @@
+package dtm.discovery.finder.processor;
+
+import dtm.discovery.core.ClassFinderConfigurations;
+import dtm.discovery.core.ClassInfo;
+import dtm.discovery.core.Processor;
+import dtm.discovery.core.ScanExecutor;
+import dtm.discovery.core.ScanStatistics;
+import dtm.discovery.finder.bytecode.ClassFileReader;
+import dtm.discovery.finder.bytecode.ClassHeader;
+import dtm.discovery.finder.config.CompiledConfigurations;
+import dtm.discovery.finder.jfr.ArchiveScanEvent;
+import dtm.discovery.finder.jfr.ClassFilterEvent;
+import dtm.discovery.finder.jfr.ClassLoadEvent;
+import dtm.discovery.finder.scheduler.ScanScheduler;
+import dtm.discovery.stereotips.ClassFinderStereotips;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.module.ModuleDescriptor;
+import java.lang.module.ModuleReader;
+import java.lang.module.ModuleReference;
+import java.lang.module.ResolvedModule;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+public class ModuleProcessor implements Processor {
+
+    private static final String CLASS_SUFFIX = ".class";
+    private static final String MODULE_INFO = "module-info.class";
+
+    private final ModuleLayer layer;
+    private final Set<Class<?>> processedClasses;
+    private final Set<String> scannedRoots;
+    private final String packageName;
+    private final String packagePath;
+    private final CompiledConfigurations configurations;
+    private Set<ClassInfo> classInfos;
+    private ScanExecutor scheduler;
+    private ScanScheduler ownedScheduler;
+    private ScanStatistics statistics = new ScanStatistics();
+    private Consumer<Throwable> errorAction = e -> {};
+    private Predicate<ClassFinderStereotips> acept = e -> true;
+
+    public ModuleProcessor(
+            ModuleLayer layer,
+            Set<Class<?>> processedClasses,
+            String packageName,
+            ClassFinderConfigurations configurations
+    ) {
+        this(layer, processedClasses, Set.of(), packageName, configurations);
+    }
+
+    public ModuleProcessor(
+            ModuleLayer layer,
+            Set<Class<?>> processedClasses,
+            Set<String> scannedRoots,
+            String packageName,
+            ClassFinderConfigurations configurations
+    ) {
+        this.layer = (layer != null) ? layer : ModuleLayer.boot();
+        this.processedClasses = processedClasses;
+        this.scannedRoots = scannedRoots;
+        this.packageName = packageName;
+        this.packagePath = packageName.replace('.', '/') + "/";
+        this.configurations = CompiledConfigurations.of(configurations);
+        this.ownedScheduler = ScanScheduler.of(configurations);
+        this.scheduler = ownedScheduler;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        try {
+            scheduler.forEach(candidateModules(), 1, this::scanModule);
+        } finally {
+            if (ownedScheduler != null) ownedScheduler.close();
+        }
+    }
+
+    @Override
+    public void onError(Consumer<Throwable> action) {
+        if (action != null) this.errorAction = action;
+    }
+
+    @Override
+    public void acept(Predicate<ClassFinderStereotips> acept) {
+        this.acept = (acept != null) ? acept : (e) -> true;
+    }
+
+    @Override
+    public void collectClassInfo(Set<ClassInfo> classInfos) {
+        this.classInfos = classInfos;
+    }
+
+    @Override
+    public void useScheduler(ScanExecutor scheduler) {
+        if (scheduler == null) return;
+        if (ownedScheduler != null) ownedScheduler.close();
+        this.scheduler = scheduler;
+        this.ownedScheduler = null;
+    }
+
+    @Override
+    public void recordStatistics(ScanStatistics statistics) {
+        if (statistics != null) this.statistics = statistics;
+    }
+
+    private List<LayerModule> candidateModules() {
+        List<LayerModule> modules = new ArrayList<>();
+        Set<ModuleLayer> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<ModuleLayer> pending = new ArrayDeque<>();
+        pending.add(layer);
+        while (!pending.isEmpty()) {
+            ModuleLayer current = pending.poll();
+            if (!visited.add(current)) continue;
+            for (ResolvedModule module : current.configuration().modules()) {
+                if (containsPackage(module.reference().descriptor())) {
+                    modules.add(new LayerModule(current, module));
+                }
+            }
+            pending.addAll(current.parents());
+        }
+        return modules;
+    }
+
+    private boolean containsPackage(ModuleDescriptor descriptor) {
+        for (String modulePackage : descriptor.packages()) {
+            if (modulePackage.equals(packageName)
+                    || (modulePackage.startsWith(packageName) && modulePackage.charAt(packageName.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void scanModule(LayerModule layerModule) {
+        ModuleReference reference = layerModule.module().reference();
+        URI location = reference.location().orElse(null);
+        URL moduleUrl = toUrl(location);
+        if (moduleUrl != null && scannedRoots.contains(rootKey(moduleUrl))) return;
+        if (!isAccepted(moduleUrl)) return;
+
+        String moduleName = layerModule.module().name();
+        ClassLoader classLoader = layerModule.layer().findLoader(moduleName);
+        ScanStatistics.SourceStatistics source = statistics.source((location != null) ? location.toString() : moduleName);
+        ArchiveScanEvent event = ArchiveScanEvent.start();
+        long start = System.nanoTime();
+        int entries = 0;
+        try (ModuleReader reader = reference.open()) {
+            statistics.archiveOpened();
+            List<String> classFiles;
+            try (Stream<String> names = reader.list()) {
+                classFiles = names.filter(this::isClassEntry).toList();
+            }
+            entries = classFiles.size();
+            statistics.entriesVisited(entries);
+            scheduler.forEach(classFiles, scheduler.getBatchSize(), entryName -> {
+                try {
+                    processEntry(reader, entryName, classLoader, moduleUrl);
+                } catch (Exception e) {
+                    errorAction.accept(e);
+                }
+            }, source);
+        } catch (IOException e) {
+            errorAction.accept(e);
+        } finally {
+            source.addWallTime(System.nanoTime() - start);
+            event.end(moduleUrl, packageName, ArchiveScanEvent.MODULE, entries);
+        }
+    }
+
+    private boolean isClassEntry(String entryName) {
+        return entryName.startsWith(packagePath)
+                && entryName.endsWith(CLASS_SUFFIX)
+                && !entryName.endsWith(MODULE_INFO);
+    }
+
+    private void processEntry(ModuleReader reader, String entryName, ClassLoader classLoader, URL source) throws IOException {
+        String className = entryName.substring(0, entryName.length() - CLASS_SUFFIX.length()).replace('/', '.');
+        if (configurations.isIgnoredPackage(className)) {
+            statistics.entryIgnored();
+            ClassFilterEvent.emit(className, source, ClassFilterEvent.IGNORED_PACKAGE);
+            return;
+        }
+        if (!configurations.getAnonimousClass() && className.contains("$")) {
+            ClassFilterEvent.emit(className, source, ClassFilterEvent.ANONYMOUS);
+            return;
+        }
+
+        if (classInfos != null) {
+            collect(readHeader(reader, entryName), source, classLoader);
+            return;
+        }
+        if (configurations.filtersHeaders()) {
+            String rejection = configurations.headerRejection(readHeader(reader, entryName), source);
+            if (rejection != null) {
+                ClassFilterEvent.emit(className, source, rejection);
+                return;
+            }
+        }
+
+        Class<?> clazz = tryLoad(className, classLoader, source);
+        if (clazz != null) {
+            injectToClassList(clazz, source);
+        }
+    }
+
+    private ClassHeader readHeader(ModuleReader reader, String entryName) throws IOException {
+        try (InputStream inputStream = reader.open(entryName).orElseThrow(() -> new IOException("Entrada não encontrada: " + entryName))) {
+            return ClassFileReader.read(inputStream);
+        }
+    }
+
+    private void collect(ClassHeader header, URL source, ClassLoader classLoader) {
+        ClassInfo info = header.toClassInfo(source, classLoader);
+        String rejection = configurations.infoRejection(info);
+        if (rejection != null) {
+            ClassFilterEvent.emit(header.getName(), source, rejection);
+            return;
+        }
+        classInfos.add(info);
+    }
+
+    private Class<?> tryLoad(String className, ClassLoader classLoader, URL source) {
+        ClassLoadEvent event = ClassLoadEvent.start();
+        try {
+            Class<?> clazz = Class.forName(className, false, classLoader);
+            statistics.classLoaded();
+            event.end(className, source, null);
+            return clazz;
+        } catch (ClassNotFoundException | LinkageError e) {
+            statistics.loadFailed(e);
+            event.end(className, source, e);
+            return null;
+        }
+    }
+
+    private void injectToClassList(Class<?> clazz, URL source) {
+        String rejection = configurations.classRejection(clazz);
+        if (rejection == null) {
+            processedClasses.add(clazz);
+        } else {
+            ClassFilterEvent.emit(clazz.getName(), source, rejection);
+        }
+    }
+
+    private boolean isAccepted(URL moduleUrl) {
+        return acept.test(new ClassFinderStereotips() {
+            @Override
+            public URL getArchiverUrl() {
+                return moduleUrl;
+            }
+
+            @Override
+            public StereotipsProtocols getArchiverProtocol() {
+                return (moduleUrl != null && "file".equalsIgnoreCase(moduleUrl.getProtocol()) && moduleUrl.getPath().endsWith("/"))
+                        ? StereotipsProtocols.DIR
+                        : StereotipsProtocols.JAR;
+            }
+        });
+    }
+
+    private static String rootKey(URL moduleUrl) {
+        String root = moduleUrl.toExternalForm();
+        return ("file".equalsIgnoreCase(moduleUrl.getProtocol()) && !root.endsWith(".jar") && !root.endsWith("/")) ? root + "/" : root;
+    }
+
+    private static URL toUrl(URI location) {
+        if (location == null) return null;
+        try {
+            return location.toURL();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private record LayerModule(ModuleLayer layer, ResolvedModule module) {
+    }
+}
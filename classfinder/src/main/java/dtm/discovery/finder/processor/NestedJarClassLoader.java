@@ -0,0 +1,41 @@
+package dtm.discovery.finder.processor;
+
+import dtm.discovery.finder.zip.MappedZipFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+final class NestedJarClassLoader extends ClassLoader {
+
+    private static final byte[] CLASS_SUFFIX = ".class".getBytes(StandardCharsets.UTF_8);
+
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
+    private final MappedZipFile zipFile;
+    private final Map<String, Integer> classEntries = new HashMap<>();
+
+    NestedJarClassLoader(MappedZipFile zipFile, ClassLoader parent) throws IOException {
+        super(zipFile.getLocation(), parent);
+        this.zipFile = zipFile.detached();
+        for (int entry : this.zipFile.entriesEndingWith(CLASS_SUFFIX)) {
+            String name = this.zipFile.getName(entry);
+            classEntries.put(name.substring(0, name.length() - CLASS_SUFFIX.length).replace('/', '.'), entry);
+        }
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        Integer entry = classEntries.get(name);
+        if (entry == null) throw new ClassNotFoundException(name);
+        try {
+            byte[] bytes = zipFile.getBytes(entry);
+            return defineClass(name, bytes, 0, bytes.length);
+        } catch (IOException e) {
+            throw new ClassNotFoundException(name, e);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package dtm.discovery.finder.processor;
+
+import dtm.discovery.core.ClassInfo;
+import dtm.discovery.core.Processor;
+import dtm.discovery.core.ScanExecutor;
+import dtm.discovery.core.ScanStatistics;
+import dtm.discovery.finder.bytecode.ClassFileReader;
+import dtm.discovery.finder.bytecode.ClassHeader;
+import dtm.discovery.finder.jfr.ArchiveScanEvent;
+import dtm.discovery.finder.jfr.ClassLoadEvent;
+import dtm.discovery.finder.scheduler.ScanScheduler;
+import dtm.discovery.stereotips.ClassFinderStereotips;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public class SimpleDirectoryProcessor implements Processor {
+
+    private static final String MODULE_INFO = "module-info";
+
+    private final File root;
+    private final Collection<File> files;
+    private final Map<File, Set<Class<?>>> processedClasses;
+    private Consumer<Throwable> errorAction = e -> {};
+    private Predicate<ClassFinderStereotips> acept;
+    private ScanExecutor scheduler;
+    private ScanScheduler ownedScheduler;
+    private ScanStatistics statistics = new ScanStatistics();
+    private final Map<File, URLClassLoader> classLoaders = new ConcurrentHashMap<>();
+    private Set<ClassInfo> classInfos;
+    private Consumer<URLClassLoader> classLoaderOwner;
+
+    public SimpleDirectoryProcessor(File root,  Map<File, Set<Class<?>>> processedClasses) {
+        this(root, null, processedClasses);
+    }
+
+    public SimpleDirectoryProcessor(File root, Collection<File> files, Map<File, Set<Class<?>>> processedClasses) {
+        this.root = root;
+        this.files = files;
+        this.processedClasses = processedClasses;
+        this.ownedScheduler = ScanScheduler.of(null);
+        this.scheduler = ownedScheduler;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        List<File> allFiles = new ArrayList<>();
+        URL rootUrl = root.getAbsoluteFile().toURI().toURL();
+        ScanStatistics.SourceStatistics source = statistics.source(rootUrl.toExternalForm());
+        ArchiveScanEvent event = ArchiveScanEvent.start();
+        long start = System.nanoTime();
+
+        try {
+            if (files != null) {
+                search(files.toArray(new File[0]), allFiles);
+            } else if (root.exists() && root.isDirectory()) {
+                statistics.directoryVisited();
+                search(root.listFiles(), allFiles);
+            }
+            scheduler.forEach(allFiles, scheduler.getBatchSize(), this::loadFile, source);
+        } finally {
+            source.addWallTime(System.nanoTime() - start);
+            event.end(rootUrl, null, ArchiveScanEvent.DIRECTORY, allFiles.size());
+            releaseClassLoaders();
+            if (ownedScheduler != null) ownedScheduler.close();
+        }
+    }
+
+    @Override
+    public void onError(Consumer<Throwable> action) {
+        if(action != null) this.errorAction = action;
+    }
+
+    @Override
+    public void acept(Predicate<ClassFinderStereotips> acept) {
+        this.acept = (acept != null) ? acept : (e) -> true;
+    }
+
+    @Override
+    public void collectClassInfo(Set<ClassInfo> classInfos) {
+        this.classInfos = classInfos;
+    }
+
+    public void childFirstClassLoaders(Consumer<URLClassLoader> owner) {
+        this.classLoaderOwner = owner;
+    }
+
+    @Override
+    public void useScheduler(ScanExecutor scheduler) {
+        if (scheduler == null) return;
+        if (ownedScheduler != null) ownedScheduler.close();
+        this.scheduler = scheduler;
+        this.ownedScheduler = null;
+    }
+
+    @Override
+    public void recordStatistics(ScanStatistics statistics) {
+        if (statistics != null) this.statistics = statistics;
+    }
+
+    private void search(File[] files, List<File> found){
+        if (files == null) return;
+        statistics.entriesVisited(files.length);
+        for (File file : files){
+            if (scheduler.isCancelled()) return;
+            if(!acept.test(new ClassFinderStereotips() {
+                @Override
+                public URL getArchiverUrl() {
+                    try {
+                        return file.toURI().toURL();
+                    } catch (MalformedURLException e) {
+                       return null;
+                    }
+                }
+
+                @Override
+                public StereotipsProtocols getArchiverProtocol() {
+                    if(file.isDirectory()) return StereotipsProtocols.DIR;
+                    String path = file.getName();
+                    return (file.isFile() && path.endsWith(".jar")) ? StereotipsProtocols.JAR : StereotipsProtocols.FILE;
+                }
+            })) continue;
+            if (file.isDirectory()) {
+                statistics.directoryVisited();
+                search(file.listFiles(), found);
+            } else {
+                found.add(file);
+            }
+        }
+    }
+
+    private void loadFile(File file){
+        String path = file.getName();
+        if (path.endsWith(".class") && classInfos != null) {
+            collectClassFile(file);
+        } else if (path.endsWith(".class")) {
+            loadClassFromClassFile(file, (files != null) ? file : root);
+        } else if (path.endsWith(".jar")) {
+           try{
+               SimpleJarProcessor processor = new SimpleJarProcessor(processedClasses, file);
+               processor.useScheduler(scheduler);
+               processor.recordStatistics(statistics);
+               processor.collectClassInfo(classInfos);
+               if (classLoaderOwner != null) processor.childFirstClassLoaders(classLoaderOwner);
+               processor.onError(errorAction);
+               processor.acept(acept);
+               processor.execute();
+           }catch (Exception e){
+               errorAction.accept(e);
+           }
+        }
+    }
+
+    public void loadClassFromClassFile(File file, File rootDir) {
+        try {
+            URL source = file.toURI().toURL();
+            String className = ClassFileReader.readClassName(Files.readAllBytes(file.toPath()));
+            if (className.equals(MODULE_INFO)) return;
+
+            File classRoot = getClassRoot(file, className);
+            ClassLoadEvent event = ClassLoadEvent.start();
+            try {
+                Class<?> clazz = (classRoot != null)
+                        ? getClassLoader(classRoot).loadClass(className)
+                        : Class.forName(className, false, getClass().getClassLoader());
+                statistics.classLoaded();
+                event.end(className, source, null);
+                addToProcessedClasses(rootDir, clazz);
+            } catch (ClassNotFoundException | LinkageError e) {
+                statistics.loadFailed(e);
+                event.end(className, source, e);
+            }
+        } catch (Exception e) {
+            errorAction.accept(e);
+        }
+    }
+
+    private void collectClassFile(File file) {
+        try {
+            ClassHeader header = ClassFileReader.read(Files.readAllBytes(file.toPath()));
+            if (header.getName().equals(MODULE_INFO)) return;
+
+            File classRoot = getClassRoot(file, header.getName());
+            ClassLoader classLoader = (classRoot != null) ? getClassLoader(classRoot) : getClass().getClassLoader();
+            URL source = ((classRoot != null) ? classRoot : file).toURI().toURL();
+            classInfos.add(header.toClassInfo(source, classLoader));
+        } catch (Exception e) {
+            errorAction.accept(e);
+        }
+    }
+
+    private File getClassRoot(File file, String className) {
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        if (!file.getName().equals(simpleName + ".class")) return null;
+
+        File current = file.getAbsoluteFile().getParentFile();
+        String[] packages = className.split("\\.");
+        for (int i = packages.length - 2; i >= 0 && current != null; i--) {
+            if (!current.getName().equals(packages[i])) return null;
+            current = current.getParentFile();
+        }
+        return current;
+    }
+
+    private URLClassLoader getClassLoader(File classRoot) throws IOException {
+        URLClassLoader classLoader = classLoaders.get(classRoot);
+        if (classLoader != null) return classLoader;
+
+        URL url = classRoot.toURI().toURL();
+        return classLoaders.computeIfAbsent(classRoot, dir -> (classLoaderOwner != null)
+                ? new ChildFirstClassLoader(new URL[]{url}, getClass().getClassLoader())
+                : new URLClassLoader(new URL[]{url}, getClass().getClassLoader()));
+    }
+
+    private void releaseClassLoaders() {
+        if (classLoaderOwner != null) {
+            classLoaders.values().forEach(classLoaderOwner);
+            classLoaders.clear();
+        } else if (classInfos == null) {
+            closeClassLoaders();
+        }
+    }
+
+    private void closeClassLoaders() {
+        for (URLClassLoader classLoader : classLoaders.values()) {
+            try {
+                classLoader.close();
+            } catch (IOException e) {
+                errorAction.accept(e);
+            }
+        }
+        classLoaders.clear();
+    }
+
+    private void addToProcessedClasses(File rootDir, Class<?> clazz) {
+        this.processedClasses.computeIfAbsent(rootDir, k -> ConcurrentHashMap.newKeySet()).add(clazz);
+    }
+
+}
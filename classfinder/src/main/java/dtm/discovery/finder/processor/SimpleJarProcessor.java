@@ -0,0 +1,301 @@
+package dtm.discovery.finder.processor;
+
+import dtm.discovery.core.ClassFinderConfigurations;
+import dtm.discovery.core.ClassInfo;
+import dtm.discovery.core.Processor;
+import dtm.discovery.core.ScanExecutor;
+import dtm.discovery.core.ScanStatistics;
+import dtm.discovery.finder.bytecode.ClassFileReader;
+import dtm.discovery.finder.config.CompiledConfigurations;
+import dtm.discovery.finder.jfr.ArchiveScanEvent;
+import dtm.discovery.finder.jfr.ClassFilterEvent;
+import dtm.discovery.finder.jfr.ClassLoadEvent;
+import dtm.discovery.finder.jfr.NestedArchiveEvent;
+import dtm.discovery.finder.scheduler.ScanScheduler;
+import dtm.discovery.finder.zip.MappedZipFile;
+import dtm.discovery.stereotips.ClassFinderStereotips;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public class SimpleJarProcessor implements Processor {
+
+    private static final byte[] VERSIONS_PREFIX = "META-INF/versions/".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MODULE_INFO_SUFFIX = "module-info.class".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CLASS_SUFFIX = ".class".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JAR_SUFFIX = ".jar".getBytes(StandardCharsets.UTF_8);
+
+    private final Map<File, Set<Class<?>>> processedClasses;
+    private final File jarFile;
+    private final CompiledConfigurations configurations;
+    private final Set<String> jarProcessed;
+    private Consumer<Throwable> errorAction = e -> {};
+    private Predicate<ClassFinderStereotips> acept;
+    private final List<URLClassLoader> classLoadersToClose = Collections.synchronizedList(new ArrayList<>());
+    private ScanExecutor scheduler;
+    private ScanScheduler ownedScheduler;
+    private ScanStatistics statistics = new ScanStatistics();
+    private Set<ClassInfo> classInfos;
+    private Consumer<URLClassLoader> classLoaderOwner;
+
+
+    public SimpleJarProcessor(Map<File, Set<Class<?>>> processedClasses, File jarFile) {
+        this.processedClasses = processedClasses;
+        this.jarFile = jarFile;
+        this.configurations = null;
+        this.jarProcessed = ConcurrentHashMap.newKeySet();
+        this.ownedScheduler = ScanScheduler.of(null);
+        this.scheduler = ownedScheduler;
+    }
+
+    public SimpleJarProcessor(Map<File, Set<Class<?>>> processedClasses, File jarFile, ClassFinderConfigurations configurations) {
+        this.processedClasses = processedClasses;
+        this.jarFile = jarFile;
+        this.configurations = (configurations != null) ? CompiledConfigurations.of(configurations) : null;
+        this.jarProcessed = ConcurrentHashMap.newKeySet();
+        this.ownedScheduler = ScanScheduler.of(configurations);
+        this.scheduler = ownedScheduler;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        scanJar(this.jarFile.toURI().toURL());
+        for (URLClassLoader loader : classLoadersToClose) {
+            try {
+                loader.close();
+            } catch (IOException e) {
+                errorAction.accept(e);
+            }
+        }
+        classLoadersToClose.clear();
+        if (ownedScheduler != null) ownedScheduler.close();
+    }
+
+    @Override
+    public void onError(Consumer<Throwable> action) {
+        if(action != null) this.errorAction = action;
+    }
+
+    @Override
+    public void acept(Predicate<ClassFinderStereotips> acept) {
+        this.acept = (acept != null) ? acept : (e) -> true;
+    }
+
+    @Override
+    public void collectClassInfo(Set<ClassInfo> classInfos) {
+        this.classInfos = classInfos;
+    }
+
+    public void childFirstClassLoaders(Consumer<URLClassLoader> owner) {
+        this.classLoaderOwner = owner;
+    }
+
+    @Override
+    public void useScheduler(ScanExecutor scheduler) {
+        if (scheduler == null) return;
+        if (ownedScheduler != null) ownedScheduler.close();
+        this.scheduler = scheduler;
+        this.ownedScheduler = null;
+    }
+
+    @Override
+    public void recordStatistics(ScanStatistics statistics) {
+        if (statistics != null) this.statistics = statistics;
+    }
+
+    private void scanJar(URL jarUrl) {
+        if (!isAccepted(jarUrl)) return;
+        try (MappedZipFile zipFile = MappedZipFile.open(Paths.get(jarUrl.toURI()))) {
+            statistics.archiveOpened();
+            URLClassLoader classLoader = newClassLoader(jarUrl);
+            if (classLoaderOwner != null) {
+                classLoaderOwner.accept(classLoader);
+            } else if (classInfos == null) {
+                classLoadersToClose.add(classLoader);
+            }
+            scanArchive(zipFile, jarUrl, classLoader);
+        } catch (Exception e) {
+            errorAction.accept(e);
+        }
+    }
+
+    private void scanArchive(MappedZipFile zipFile, URL jarUrl, ClassLoader classLoader) {
+        ScanStatistics.SourceStatistics source = statistics.source(jarUrl.toExternalForm());
+        ArchiveScanEvent event = ArchiveScanEvent.start();
+        long start = System.nanoTime();
+        try {
+            statistics.entriesVisited(zipFile.size());
+            scheduler.forEach(zipFile.size(), scheduler.getBatchSize(), entry -> {
+                if (scheduler.isCancelled()) return;
+                try {
+                    if (zipFile.nameStartsWithIgnoreCase(entry, VERSIONS_PREFIX) || zipFile.nameEndsWith(entry, MODULE_INFO_SUFFIX)) {
+                        return;
+                    }
+
+                    if(zipFile.nameEndsWith(entry, CLASS_SUFFIX)) {
+                        String className = acceptedClassName(zipFile, entry, jarUrl);
+                        if (className == null) return;
+                        if (classInfos != null) {
+                            collect(zipFile, entry, className, classLoader, jarUrl);
+                        } else if (acceptsHeader(zipFile, entry, className, jarUrl)) {
+                            processClass(className, classLoader, jarUrl);
+                        }
+                    } else if (zipFile.nameEndsWith(entry, JAR_SUFFIX) && !getIgnoreSubJars()) {
+                        processSubJar(zipFile, entry, jarUrl, classLoader);
+                    }
+                } catch (Exception e) {
+                    errorAction.accept(e);
+                }
+            }, source);
+        } finally {
+            source.addWallTime(System.nanoTime() - start);
+            event.end(jarUrl, null, ArchiveScanEvent.JAR, zipFile.size());
+        }
+    }
+
+    private void processSubJar(MappedZipFile zipFile, int entry, URL jarUrl, ClassLoader parentLoader) throws Exception {
+        String parentPath = "file".equalsIgnoreCase(jarUrl.getProtocol())
+                ? "jar:file:" + jarUrl.getFile().replace("\\", "/")
+                : jarUrl.toExternalForm();
+        String decodedPath = URLDecoder.decode(parentPath + "!/" + zipFile.getName(entry), StandardCharsets.UTF_8);
+        if (ignoreJar(decodedPath)) return;
+        URL jarUrlInternal = URI.create(decodedPath).toURL();
+        if (!jarProcessed.add(jarUrlInternal.toExternalForm()) || !isAccepted(jarUrlInternal)) return;
+
+        NestedArchiveEvent event = NestedArchiveEvent.start();
+        try (MappedZipFile nestedZipFile = zipFile.openNested(entry)) {
+            statistics.archiveOpened();
+            scanArchive(nestedZipFile, jarUrlInternal, new NestedJarClassLoader(nestedZipFile, parentLoader));
+        } finally {
+            event.end(jarUrl, zipFile.getName(entry), jarUrlInternal);
+        }
+    }
+
+    private boolean isAccepted(URL jarUrl) {
+        return acept.test(new ClassFinderStereotips() {
+            @Override
+            public URL getArchiverUrl() {
+                return jarUrl;
+            }
+
+            @Override
+            public StereotipsProtocols getArchiverProtocol() {
+                return StereotipsProtocols.JAR;
+            }
+        });
+    }
+
+    private String acceptedClassName(MappedZipFile zipFile, int entry, URL source) {
+        if (configurations != null && configurations.isIgnoredPackage(zipFile, entry, CLASS_SUFFIX.length)) {
+            statistics.entryIgnored();
+            if (ClassFilterEvent.isRecording()) ClassFilterEvent.emit(toClassName(zipFile.getName(entry)), source, ClassFilterEvent.IGNORED_PACKAGE);
+            return null;
+        }
+        String className = toClassName(zipFile.getName(entry));
+        if (!getAnonimousClass() && className.contains("$")) {
+            ClassFilterEvent.emit(className, source, ClassFilterEvent.ANONYMOUS);
+            return null;
+        }
+        return className;
+    }
+
+    private static String toClassName(String entryName) {
+        return entryName.substring(0, entryName.length() - CLASS_SUFFIX.length).replace('/', '.');
+    }
+
+    private void processClass(String className, ClassLoader classLoader, URL source){
+        Class<?> clazz = tryLoad(className, classLoader, source);
+        if(clazz != null) {
+            injectToClassList(clazz, source);
+        }
+    }
+
+    private URLClassLoader newClassLoader(URL jarUrl) {
+        return (classLoaderOwner != null)
+                ? new ChildFirstClassLoader(new URL[] { jarUrl }, getClass().getClassLoader())
+                : URLClassLoader.newInstance(new URL[] { jarUrl });
+    }
+
+    private void collect(MappedZipFile zipFile, int entry, String className, ClassLoader classLoader, URL source) {
+        try {
+            ClassInfo info = ClassFileReader.read(zipFile.getBytes(entry)).toClassInfo(source, classLoader);
+            String rejection = (configurations != null) ? configurations.infoRejection(info) : null;
+            if (rejection == null) {
+                classInfos.add(info);
+            } else {
+                ClassFilterEvent.emit(className, source, rejection);
+            }
+        } catch (IOException e) {
+            errorAction.accept(e);
+        }
+    }
+
+    private boolean acceptsHeader(MappedZipFile zipFile, int entry, String className, URL source) {
+        if (configurations == null || !configurations.filtersHeaders()) return true;
+        try {
+            String rejection = configurations.headerRejection(ClassFileReader.read(zipFile.getBytes(entry)), source);
+            if (rejection == null) return true;
+            ClassFilterEvent.emit(className, source, rejection);
+            return false;
+        } catch (IOException e) {
+            errorAction.accept(e);
+            ClassFilterEvent.emit(className, source, ClassFilterEvent.MALFORMED);
+            return false;
+        }
+    }
+
+    private Class<?> tryLoad(String className, ClassLoader classLoader, URL source){
+       ClassLoadEvent event = ClassLoadEvent.start();
+       try{
+           Class<?> clazz = classLoader.loadClass(className);
+           statistics.classLoaded();
+           event.end(className, source, null);
+           return clazz;
+       }catch (Exception e){
+           statistics.loadFailed(e);
+           event.end(className, source, e);
+           return null;
+       }
+    }
+
+    private boolean ignoreJar(String jarPath){
+        if(configurations == null) return false;
+        return configurations.isIgnoredJar(jarPath);
+    }
+
+    private void injectToClassList(Class<?> clazz, URL source) {
+
+        String rejection = (configurations != null) ? configurations.classRejection(clazz) : null;
+        if (rejection == null) {
+            addToProcessedClasses(jarFile, clazz);
+        } else {
+            ClassFilterEvent.emit(clazz.getName(), source, rejection);
+        }
+
+    }
+
+    private boolean getAnonimousClass(){
+        if(configurations == null) return true;
+        return configurations.getAnonimousClass();
+    }
+
+    private boolean getIgnoreSubJars(){
+        if(configurations == null) return true;
+        return configurations.ignoreSubJars();
+    }
+
+    private void addToProcessedClasses(File rootDir, Class<?> clazz) {
+        this.processedClasses.computeIfAbsent(rootDir, k -> ConcurrentHashMap.newKeySet()).add(clazz);
+    }
+
+}
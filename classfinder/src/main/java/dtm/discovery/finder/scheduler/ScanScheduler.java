@@ -0,0 +1,279 @@
+package dtm.discovery.finder.scheduler;
+
+import dtm.discovery.core.ClassFinderConfigurations;
+import dtm.discovery.core.ScanExecutor;
+import dtm.discovery.core.ScanExecutorType;
+import dtm.discovery.core.ScanStatistics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+public final class ScanScheduler implements ScanExecutor, AutoCloseable {
+
+    private final ScanExecutorType executorType;
+    private final int parallelism;
+    private final int batchSize;
+    private final Semaphore workers;
+    private ExecutorService executorService;
+    private ForkJoinPool walkPool;
+    private boolean closed;
+    private volatile boolean cancelled;
+
+    public ScanScheduler(ScanExecutorType executorType, int parallelism, int batchSize) {
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism deve ser maior que zero");
+        if (batchSize < 1) throw new IllegalArgumentException("batchSize deve ser maior que zero");
+        this.executorType = (executorType != null) ? executorType : ScanExecutorType.VIRTUAL;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.workers = new Semaphore(parallelism);
+    }
+
+    public static ScanScheduler of(ClassFinderConfigurations configurations) {
+        ClassFinderConfigurations config = (configurations != null) ? configurations : new ClassFinderConfigurations() {};
+        return new ScanScheduler(config.getScanExecutorType(), config.getScanParallelism(), config.getScanBatchSize());
+    }
+
+    @Override
+    public ScanExecutorType getExecutorType() {
+        return executorType;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public void runAsync(Runnable task) {
+        Thread.Builder builder = (executorType == ScanExecutorType.VIRTUAL) ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+        builder.name("classfinder-find").start(task);
+    }
+
+    @Override
+    public <T> void forEach(List<T> items, Consumer<? super T> action) {
+        forEach(items, batchSize, action);
+    }
+
+    @Override
+    public <T> void forEach(List<T> items, int batchSize, Consumer<? super T> action) {
+        forEach(items.size(), batchSize, index -> action.accept(items.get(index)));
+    }
+
+    @Override
+    public void forEach(int count, IntConsumer action) {
+        forEach(count, batchSize, action);
+    }
+
+    @Override
+    public <T> void forEach(List<T> items, int batchSize, Consumer<? super T> action, ScanStatistics.SourceStatistics source) {
+        forEach(items.size(), batchSize, index -> action.accept(items.get(index)), source);
+    }
+
+    @Override
+    public void forEach(int count, int batchSize, IntConsumer action) {
+        forEach(count, batchSize, action, null);
+    }
+
+    @Override
+    public void forEach(int count, int batchSize, IntConsumer action, ScanStatistics.SourceStatistics source) {
+        if (count <= 0 || cancelled) return;
+        int chunkSize = Math.max(1, batchSize);
+        int chunks = (count + chunkSize - 1) / chunkSize;
+
+        AtomicInteger nextChunk = new AtomicInteger();
+        CountDownLatch pending = new CountDownLatch(chunks);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            int chunk;
+            while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+                int start = chunk * chunkSize;
+                int end = Math.min(count, start + chunkSize);
+                if (source != null) source.startCpu();
+                try {
+                    for (int i = start; i < end && !cancelled; i++) {
+                        action.accept(i);
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    if (source != null) source.stopCpu();
+                    pending.countDown();
+                }
+            }
+        };
+
+        ExecutorService executor = executor();
+        for (int i = 1; executor != null && i < chunks && workers.tryAcquire(); i++) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        worker.run();
+                    } finally {
+                        workers.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                workers.release();
+                break;
+            }
+        }
+
+        worker.run();
+        try {
+            pending.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Escaneamento interrompido");
+        }
+
+        Throwable error = failure.get();
+        if (error != null) throw new CompletionException(error);
+    }
+
+    @Override
+    public <T> void walk(T root, BiConsumer<? super T, Consumer<T>> action, ScanStatistics.SourceStatistics source) {
+        if (root == null || cancelled) return;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ForkJoinPool pool = walkPool();
+        if (pool != null) {
+            try {
+                pool.invoke(new WalkAction<>(this, root, action, source, failure));
+            } catch (RejectedExecutionException e) {
+                walkInline(root, action, source, failure);
+            }
+        } else {
+            walkInline(root, action, source, failure);
+        }
+
+        Throwable error = failure.get();
+        if (error != null) throw new CompletionException(error);
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+        if (walkPool != null) {
+            walkPool.shutdown();
+        }
+    }
+
+    private <T> void walkInline(T root, BiConsumer<? super T, Consumer<T>> action, ScanStatistics.SourceStatistics source, AtomicReference<Throwable> failure) {
+        Deque<T> pending = new ArrayDeque<>();
+        pending.push(root);
+        Consumer<T> fork = pending::push;
+        while (!pending.isEmpty() && !cancelled) {
+            runWalkStep(pending.pop(), action, fork, source, failure);
+        }
+    }
+
+    private <T> void runWalkStep(T task, BiConsumer<? super T, Consumer<T>> action, Consumer<T> fork, ScanStatistics.SourceStatistics source, AtomicReference<Throwable> failure) {
+        if (source != null) source.startCpu();
+        try {
+            action.accept(task, fork);
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            if (source != null) source.stopCpu();
+        }
+    }
+
+    private synchronized ForkJoinPool walkPool() {
+        if (closed || executorType == ScanExecutorType.CALLER_RUNS || parallelism == 1) return null;
+        if (walkPool == null) {
+            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            AtomicInteger counter = new AtomicInteger();
+            walkPool = new ForkJoinPool(parallelism, pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("classfinder-walk-" + counter.getAndIncrement());
+                thread.setContextClassLoader(contextClassLoader);
+                return thread;
+            }, null, false);
+        }
+        return walkPool;
+    }
+
+    private synchronized ExecutorService executor() {
+        if (closed || executorType == ScanExecutorType.CALLER_RUNS) return null;
+        if (executorService == null) {
+            executorService = (executorType == ScanExecutorType.PLATFORM)
+                    ? Executors.newFixedThreadPool(parallelism, platformThreadFactory())
+                    : Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("classfinder-scan-", 0).factory());
+        }
+        return executorService;
+    }
+
+    private static ThreadFactory platformThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "classfinder-scan-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class WalkAction<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient ScanScheduler scheduler;
+        private final transient T task;
+        private final transient BiConsumer<? super T, Consumer<T>> action;
+        private final transient ScanStatistics.SourceStatistics source;
+        private final transient AtomicReference<Throwable> failure;
+
+        private WalkAction(ScanScheduler scheduler, T task, BiConsumer<? super T, Consumer<T>> action, ScanStatistics.SourceStatistics source, AtomicReference<Throwable> failure) {
+            this.scheduler = scheduler;
+            this.task = task;
+            this.action = action;
+            this.source = source;
+            this.failure = failure;
+        }
+
+        @Override
+        protected void compute() {
+            if (scheduler.cancelled) return;
+            List<WalkAction<T>> children = new ArrayList<>();
+            scheduler.runWalkStep(task, action, child -> {
+                WalkAction<T> walkAction = new WalkAction<>(scheduler, child, action, source, failure);
+                walkAction.fork();
+                children.add(walkAction);
+            }, source, failure);
+            for (int i = children.size() - 1; i >= 0; i--) {
+                children.get(i).join();
+            }
+        }
+    }
+}
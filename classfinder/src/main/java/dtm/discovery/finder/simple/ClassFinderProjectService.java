@@ -0,0 +1,49 @@
+package dtm.discovery.finder.simple;
+
+import dtm.discovery.core.ClassFinderConfigurations;
+import dtm.discovery.core.ClassFinderErrorHandler;
+import dtm.discovery.core.Processor;
+import dtm.discovery.finder.AbstractClassFinderService;
+import dtm.discovery.finder.index.ClassIndex;
+import dtm.discovery.finder.processor.*;
+import dtm.discovery.stereotips.ClassFinderStereotips;
+
+import java.io.File;
+import java.net.URL;
+import java.util.Set;
+import java.util.function.Predicate;
+
+public class ClassFinderProjectService extends AbstractClassFinderService {
+
+    public ClassFinderProjectService() {
+        super(null, null);
+    }
+
+    public ClassFinderProjectService(ClassFinderErrorHandler errorHandlers) {
+        super(errorHandlers, null);
+    }
+
+    public ClassFinderProjectService(ClassFinderErrorHandler errorHandlers, Predicate<ClassFinderStereotips> scanAcepptHandler) {
+        super(errorHandlers, scanAcepptHandler);
+    }
+
+    public ClassFinderProjectService(Predicate<ClassFinderStereotips> scanAcepptHandler) {
+        super(null, scanAcepptHandler);
+    }
+
+    @Override
+    protected Processor createJarProcessor(URL jarUrl, ClassIndex index, Set<Class<?>> classes, Set<String> jarProcessed, String pacote, ClassFinderConfigurations configurations) {
+        return new FastProjectJarProcessor(jarUrl, classes, pacote, configurations);
+    }
+
+    @Override
+    protected Processor createDirectoryProcessor(URL resource, ClassIndex index, Set<Class<?>> classes, String pacote, ClassFinderConfigurations configurations) {
+        return new DirectoryProcessor(new File(resource.getFile()), pacote, classes, configurations);
+    }
+
+    @Override
+    protected Processor createClasspathProcessor(Set<Class<?>> classes, Set<String> jarProcessed, Set<String> scannedRoots, String pacote, ClassFinderConfigurations configurations) {
+        return new ClasspathProcessor(classes, jarProcessed, scannedRoots, pacote, configurations, null);
+    }
+
+}
@@ -0,0 +1,36 @@
+package dtm.discovery.finder.stream;
+
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Consumer;
+
+public class ClassPublisher implements Flow.Publisher<Class<?>> {
+
+    private final Consumer<Set<Class<?>>> scan;
+    private final int bufferCapacity;
+
+    public ClassPublisher(Consumer<Set<Class<?>>> scan) {
+        this(scan, Flow.defaultBufferSize());
+    }
+
+    public ClassPublisher(Consumer<Set<Class<?>>> scan, int bufferCapacity) {
+        this.scan = scan;
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Class<?>> subscriber) {
+        SubmissionPublisher<Class<?>> publisher = new SubmissionPublisher<>(ForkJoinPool.commonPool(), bufferCapacity);
+        publisher.subscribe(subscriber);
+        Thread.ofVirtual().name("classfinder-publisher").start(() -> {
+            try {
+                scan.accept(new PublishingClassSet(publisher));
+                publisher.close();
+            } catch (Throwable th) {
+                publisher.closeExceptionally(th);
+            }
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package dtm.discovery.finder.stream;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.SubmissionPublisher;
+
+public class PublishingClassSet extends AbstractSet<Class<?>> {
+
+    private final Set<Class<?>> delegate;
+    private final SubmissionPublisher<Class<?>> publisher;
+
+    public PublishingClassSet(SubmissionPublisher<Class<?>> publisher) {
+        this.delegate = ConcurrentHashMap.newKeySet();
+        this.publisher = publisher;
+    }
+
+    @Override
+    public boolean add(Class<?> clazz) {
+        if (!delegate.add(clazz)) return false;
+        publisher.submit(clazz);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return delegate.contains(o);
+    }
+
+    @Override
+    public Iterator<Class<?>> iterator() {
+        return delegate.iterator();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+}
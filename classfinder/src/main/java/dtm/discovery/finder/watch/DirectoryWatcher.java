@@ -0,0 +1,350 @@
+package dtm.discovery.finder.watch;
+
+import dtm.discovery.core.ClassDelta;
+import dtm.discovery.core.ClassDeltaListener;
+import dtm.discovery.core.ClassFinderConfigurations;
+import dtm.discovery.core.ClassWatcher;
+import dtm.discovery.core.ScanStatistics;
+import dtm.discovery.finder.config.CompiledConfigurations;
+import dtm.discovery.finder.processor.SimpleDirectoryProcessor;
+import dtm.discovery.finder.scheduler.ScanScheduler;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public final class DirectoryWatcher implements ClassWatcher {
+
+    private final File root;
+    private final Path rootPath;
+    private final CompiledConfigurations configurations;
+    private final ClassDeltaListener listener;
+    private final Consumer<Throwable> errorAction;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watchKeys = new ConcurrentHashMap<>();
+    private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+    private final Map<Path, FileState> fileStates = new HashMap<>();
+    private final Map<Path, Set<Class<?>>> classesByFile = new HashMap<>();
+    private final Map<ClassLoader, Set<Path>> classLoaderUsage = new HashMap<>();
+    private Thread thread;
+    private volatile boolean closed;
+
+    private DirectoryWatcher(File root, ClassFinderConfigurations configurations, ClassDeltaListener listener) throws IOException {
+        this.root = root.getAbsoluteFile();
+        this.rootPath = this.root.toPath();
+        this.configurations = CompiledConfigurations.of(configurations);
+        this.listener = listener;
+        this.errorAction = (this.configurations.getErrorHandler() != null) ? this.configurations.getErrorHandler()::onScanError : e -> {};
+        this.watchService = rootPath.getFileSystem().newWatchService();
+    }
+
+    public static DirectoryWatcher start(File root, ClassFinderConfigurations configurations, ClassDeltaListener listener) throws IOException {
+        if (!root.isDirectory()) throw new IOException("Diretório não encontrado: " + root);
+
+        DirectoryWatcher watcher = new DirectoryWatcher(root, configurations, listener);
+        try {
+            watcher.rescan(List.of(watcher.rootPath));
+        } catch (RuntimeException e) {
+            watcher.close();
+            throw e;
+        }
+        watcher.thread = Thread.ofPlatform()
+                .name("classfinder-watch-" + watcher.root.getName())
+                .daemon()
+                .start(watcher::run);
+        return watcher;
+    }
+
+    @Override
+    public File getRoot() {
+        return root;
+    }
+
+    @Override
+    public synchronized Map<File, Set<Class<?>>> getSnapshot() {
+        Map<File, Set<Class<?>>> snapshot = new HashMap<>();
+        classesByFile.forEach((path, classes) -> {
+            File group = isJar(path) ? path.toFile() : root;
+            snapshot.computeIfAbsent(group, k -> new HashSet<>()).addAll(classes);
+        });
+        return snapshot;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            errorAction.accept(e);
+        }
+        if (thread != null && thread != Thread.currentThread()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            classLoaderUsage.keySet().forEach(this::closeClassLoader);
+            classLoaderUsage.clear();
+        }
+    }
+
+    private void run() {
+        long debounceNanos = configurations.getWatchDebounce().toNanos();
+        try {
+            while (!closed) {
+                Set<Path> changed = new HashSet<>();
+                boolean overflow = drain(watchService.take(), changed);
+                WatchKey key;
+                while ((key = watchService.poll(debounceNanos, TimeUnit.NANOSECONDS)) != null) {
+                    overflow |= drain(key, changed);
+                }
+                try {
+                    rescan(overflow ? List.of(rootPath) : changed);
+                } catch (RuntimeException e) {
+                    errorAction.accept(e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            closed = true;
+        }
+    }
+
+    private boolean drain(WatchKey key, Set<Path> changed) {
+        Path directory = watchKeys.get(key);
+        boolean overflow = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                overflow = true;
+            } else if (directory != null) {
+                changed.add(directory.resolve((Path) event.context()));
+            }
+        }
+        if (!key.reset()) {
+            watchKeys.remove(key);
+            if (directory != null) {
+                watchedDirectories.remove(directory);
+                changed.add(directory);
+            }
+        }
+        return overflow;
+    }
+
+    private synchronized void rescan(Collection<Path> changedPaths) {
+        Set<Path> candidates = new HashSet<>();
+        for (Path changed : changedPaths) {
+            for (Path tracked : fileStates.keySet()) {
+                if (tracked.startsWith(changed)) candidates.add(tracked);
+            }
+            if (Files.isDirectory(changed)) {
+                walk(changed, candidates);
+            } else if (isScannable(changed)) {
+                candidates.add(changed);
+            }
+        }
+
+        List<File> modified = new ArrayList<>();
+        Map<Path, FileState> states = new HashMap<>();
+        Map<String, Class<?>> before = new HashMap<>();
+        List<ClassLoader> retired = new ArrayList<>();
+        for (Path candidate : candidates) {
+            FileState state = FileState.of(candidate);
+            if (state != null && state.equals(fileStates.get(candidate))) continue;
+
+            Set<Class<?>> previous = classesByFile.remove(candidate);
+            if (previous != null) {
+                previous.forEach(clazz -> before.put(clazz.getName(), clazz));
+                releaseClassLoaders(candidate, previous, retired);
+            }
+            fileStates.remove(candidate);
+            if (state != null) {
+                modified.add(candidate.toFile());
+                states.put(candidate, state);
+            }
+        }
+        if (modified.isEmpty() && before.isEmpty()) return;
+
+        ScanStatistics statistics = new ScanStatistics(root.getPath());
+        List<URLClassLoader> classLoaders = new ArrayList<>();
+        Map<File, Set<Class<?>>> loaded = load(modified, statistics, classLoaders);
+        classLoaders.forEach(classLoader -> classLoaderUsage.put(classLoader, new HashSet<>()));
+        Map<String, Class<?>> after = new HashMap<>();
+        states.forEach((path, state) -> {
+            fileStates.put(path, state);
+            Set<Class<?>> classes = loaded.get(path.toFile());
+            if (classes == null || classes.isEmpty()) return;
+            classesByFile.put(path, classes);
+            classes.forEach(clazz -> {
+                after.put(clazz.getName(), clazz);
+                Set<Path> usage = classLoaderUsage.get(clazz.getClassLoader());
+                if (usage != null) usage.add(path);
+            });
+        });
+        classLoaders.forEach(classLoader -> {
+            if (classLoaderUsage.get(classLoader).isEmpty()) {
+                classLoaderUsage.remove(classLoader);
+                retired.add(classLoader);
+            }
+        });
+        statistics.finish();
+        publish(before, after, statistics);
+        retired.forEach(this::closeClassLoader);
+    }
+
+    private Map<File, Set<Class<?>>> load(List<File> files, ScanStatistics statistics, List<URLClassLoader> classLoaders) {
+        Map<File, Set<Class<?>>> loaded = new ConcurrentHashMap<>();
+        if (files.isEmpty()) return loaded;
+
+        try (ScanScheduler scheduler = ScanScheduler.of(configurations)) {
+            SimpleDirectoryProcessor processor = new SimpleDirectoryProcessor(root, files, loaded);
+            processor.childFirstClassLoaders(classLoader -> {
+                synchronized (classLoaders) {
+                    classLoaders.add(classLoader);
+                }
+            });
+            processor.onError(errorAction);
+            processor.useScheduler(scheduler);
+            processor.recordStatistics(statistics);
+            processor.acept(configurations.getAceptHandler());
+            processor.execute();
+        } catch (Exception e) {
+            errorAction.accept(e);
+        }
+        return loaded;
+    }
+
+    private void releaseClassLoaders(Path file, Set<Class<?>> classes, List<ClassLoader> retired) {
+        for (Class<?> clazz : classes) {
+            ClassLoader classLoader = clazz.getClassLoader();
+            Set<Path> usage = classLoaderUsage.get(classLoader);
+            if (usage == null || !usage.remove(file) || !usage.isEmpty()) continue;
+            classLoaderUsage.remove(classLoader);
+            retired.add(classLoader);
+        }
+    }
+
+    private void closeClassLoader(ClassLoader classLoader) {
+        if (!(classLoader instanceof URLClassLoader urlClassLoader)) return;
+        try {
+            urlClassLoader.close();
+        } catch (IOException e) {
+            errorAction.accept(e);
+        }
+    }
+
+    private void publish(Map<String, Class<?>> before, Map<String, Class<?>> after, ScanStatistics statistics) {
+        Set<Class<?>> added = new HashSet<>();
+        Set<Class<?>> removed = new HashSet<>();
+        Set<Class<?>> changed = new HashSet<>();
+        Set<Class<?>> replaced = new HashSet<>();
+        after.forEach((name, clazz) -> {
+            Class<?> previous = before.get(name);
+            if (previous == null) {
+                added.add(clazz);
+            } else if (previous != clazz) {
+                changed.add(clazz);
+                replaced.add(previous);
+            }
+        });
+        before.forEach((name, clazz) -> {
+            if (!after.containsKey(name)) removed.add(clazz);
+        });
+
+        ClassDelta delta = new ClassDelta(root, added, removed, changed, replaced, statistics);
+        if (delta.isEmpty() || listener == null) return;
+        try {
+            listener.onDelta(delta);
+        } catch (Exception e) {
+            errorAction.accept(e);
+        }
+    }
+
+    private void walk(Path directory, Set<Path> found) {
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) throws IOException {
+                    register(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (attributes.isRegularFile() && isScannable(file)) found.add(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    errorAction.accept(e);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            errorAction.accept(e);
+        }
+    }
+
+    private void register(Path directory) throws IOException {
+        if (closed || !watchedDirectories.add(directory)) return;
+        WatchKey key = directory.register(
+                watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE,
+                StandardWatchEventKinds.ENTRY_MODIFY
+        );
+        watchKeys.put(key, directory);
+    }
+
+    private static boolean isScannable(Path path) {
+        String name = path.getFileName().toString();
+        return name.endsWith(".class") || isJar(path);
+    }
+
+    private static boolean isJar(Path path) {
+        return path.getFileName().toString().endsWith(".jar");
+    }
+
+    private record FileState(long size, long lastModified) {
+
+        private static FileState of(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (!attributes.isRegularFile()) return null;
+                return new FileState(attributes.size(), attributes.lastModifiedTime().toMillis());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+}
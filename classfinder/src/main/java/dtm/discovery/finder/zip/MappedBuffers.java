@@ -0,0 +1,40 @@
+package dtm.discovery.finder.zip;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+public final class MappedBuffers {
+
+    private static final MethodHandle INVOKE_CLEANER = findCleaner();
+
+    private MappedBuffers() {
+    }
+
+    public static boolean isSupported() {
+        return INVOKE_CLEANER != null;
+    }
+
+    public static void unmap(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || buffer == null || !buffer.isDirect()) return;
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (Throwable ignored) {
+        }
+    }
+
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeType = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeType.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeType, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
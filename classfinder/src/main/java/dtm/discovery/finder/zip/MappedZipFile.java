@@ -0,0 +1,427 @@
+package dtm.discovery.finder.zip;
+
+import dtm.discovery.finder.config.PrefixMatcher;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+public final class MappedZipFile implements Closeable {
+
+    private static final int LOCAL_HEADER = 0x04034b50;
+    private static final int CENTRAL_HEADER = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY = 0x06064b50;
+    private static final int ZIP64_LOCATOR = 0x07064b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int ZIP64_EXTRA = 0x0001;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    private final String location;
+    private final ByteBuffer buffer;
+    private final int[] entries;
+    private final long baseOffset;
+    private volatile int[] sortedEntries;
+    private ByteBuffer mapping;
+
+    private MappedZipFile(String location, ByteBuffer buffer, int[] entries, long baseOffset) {
+        this.location = location;
+        this.buffer = buffer;
+        this.entries = entries;
+        this.baseOffset = baseOffset;
+    }
+
+    public static MappedZipFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new ZipException("Arquivo grande demais para memory-map: " + path);
+            }
+            ByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            try {
+                MappedZipFile zipFile = open(path.toString(), mapping);
+                zipFile.mapping = mapping;
+                return zipFile;
+            } catch (IOException | RuntimeException e) {
+                MappedBuffers.unmap(mapping);
+                throw e;
+            }
+        }
+    }
+
+    public static MappedZipFile open(String location, ByteBuffer data) throws IOException {
+        ByteBuffer buffer = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            return readCentralDirectory(location, buffer);
+        } catch (IndexOutOfBoundsException e) {
+            throw new ZipException("Diretório central inválido: " + location);
+        }
+    }
+
+    public MappedZipFile openNested(int index) throws IOException {
+        ByteBuffer data = isStored(index) ? getStoredData(index) : ByteBuffer.wrap(getBytes(index));
+        return open(location + "!/" + getName(index), data);
+    }
+
+    public MappedZipFile detached() throws IOException {
+        if (!buffer.isDirect()) return this;
+        ByteBuffer copy = ByteBuffer.allocate(buffer.capacity());
+        copy.put(buffer.duplicate().clear()).flip();
+        return open(location, copy);
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public int getNameLength(int index) {
+        return u16(entries[index] + 28);
+    }
+
+    public String getName(int index) {
+        int offset = entries[index];
+        byte[] name = new byte[u16(offset + 28)];
+        buffer.get(offset + CENTRAL_HEADER_SIZE, name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    public int nameHash(int index) {
+        int offset = entries[index] + CENTRAL_HEADER_SIZE;
+        int length = getNameLength(index);
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buffer.get(offset + i);
+        }
+        return hash;
+    }
+
+    public boolean nameStartsWith(int index, byte[] prefix) {
+        return regionEquals(index, 0, prefix, false);
+    }
+
+    public boolean nameStartsWithIgnoreCase(int index, byte[] prefix) {
+        return regionEquals(index, 0, prefix, true);
+    }
+
+    public boolean nameStartsWith(int index, PrefixMatcher matcher, int suffixLength) {
+        int offset = entries[index] + CENTRAL_HEADER_SIZE;
+        int length = getNameLength(index) - suffixLength;
+        int state = PrefixMatcher.ROOT;
+        for (int i = 0; ; i++) {
+            if (matcher.isTerminal(state)) return true;
+            if (i >= length) return false;
+            byte b = buffer.get(offset + i);
+            if (b < 0) {
+                String name = getName(index);
+                return matcher.matches(name.substring(0, name.length() - suffixLength));
+            }
+            state = matcher.next(state, (char) b);
+            if (state < 0) return false;
+        }
+    }
+
+    public int[] entriesStartingWith(byte[] prefix) {
+        int[] sorted = sortedEntries();
+        int from = 0;
+        int to = sorted.length;
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (compareToPrefix(sorted[middle], prefix) < 0) from = middle + 1;
+            else to = middle;
+        }
+        int end = sorted.length;
+        to = from;
+        while (to < end) {
+            int middle = (to + end) >>> 1;
+            if (compareToPrefix(sorted[middle], prefix) == 0) to = middle + 1;
+            else end = middle;
+        }
+        return Arrays.copyOfRange(sorted, from, to);
+    }
+
+    public int[] entriesEndingWith(byte[] suffix) {
+        int[] matches = new int[16];
+        int count = 0;
+        for (int i = 0; i < entries.length; i++) {
+            if (!nameEndsWith(i, suffix)) continue;
+            if (count == matches.length) matches = Arrays.copyOf(matches, count * 2);
+            matches[count++] = i;
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    public boolean nameEndsWith(int index, byte[] suffix) {
+        int start = getNameLength(index) - suffix.length;
+        return start >= 0 && regionEquals(index, start, suffix, false);
+    }
+
+    public boolean nameContains(int index, byte value) {
+        int start = entries[index] + CENTRAL_HEADER_SIZE;
+        int length = getNameLength(index);
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(start + i) == value) return true;
+        }
+        return false;
+    }
+
+    public boolean isDirectory(int index) {
+        int length = getNameLength(index);
+        return length > 0 && buffer.get(entries[index] + CENTRAL_HEADER_SIZE + length - 1) == '/';
+    }
+
+    public boolean isStored(int index) {
+        return u16(entries[index] + 10) == STORED;
+    }
+
+    public long getCrc(int index) {
+        return u32(entries[index] + 16);
+    }
+
+    public long getCompressedSize(int index) {
+        long size = u32(entries[index] + 20);
+        return (size == ZIP64_MAGIC) ? zip64Value(index, 1) : size;
+    }
+
+    public long getSize(int index) {
+        long size = u32(entries[index] + 24);
+        return (size == ZIP64_MAGIC) ? zip64Value(index, 0) : size;
+    }
+
+    public ByteBuffer getStoredData(int index) throws IOException {
+        if (!isStored(index)) {
+            throw new ZipException("Entrada comprimida: " + getName(index));
+        }
+        int start = dataOffset(index);
+        return buffer.slice(start, (int) getCompressedSize(index)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public byte[] getBytes(int index) throws IOException {
+        int method = u16(entries[index] + 10);
+        int start = dataOffset(index);
+        int compressedSize = (int) getCompressedSize(index);
+        long size = getSize(index);
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new ZipException("Entrada grande demais: " + getName(index));
+        }
+
+        byte[] data = new byte[(int) size];
+        if (method == STORED) {
+            buffer.get(start, data, 0, data.length);
+            return data;
+        }
+        if (method != DEFLATED) {
+            throw new ZipException("Método de compressão não suportado " + method + ": " + getName(index));
+        }
+
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(buffer.slice(start, compressedSize));
+            int total = 0;
+            while (total < data.length) {
+                int read = inflater.inflate(data, total, data.length - total);
+                if (read == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) break;
+                total += read;
+            }
+            if (total != data.length) {
+                throw new ZipException("Entrada truncada: " + getName(index));
+            }
+            return data;
+        } catch (DataFormatException e) {
+            throw new ZipException("Entrada corrompida " + getName(index) + ": " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+    }
+
+    public InputStream getInputStream(int index) throws IOException {
+        return new ByteArrayInputStream(getBytes(index));
+    }
+
+    public int indexOf(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < entries.length; i++) {
+            if (getNameLength(i) == bytes.length && nameStartsWith(i, bytes)) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public synchronized void close() {
+        ByteBuffer released = mapping;
+        mapping = null;
+        MappedBuffers.unmap(released);
+    }
+
+    private static MappedZipFile readCentralDirectory(String location, ByteBuffer buffer) throws IOException {
+        int limit = buffer.limit();
+        int end = -1;
+        int minimum = Math.max(0, limit - END_OF_CENTRAL_DIRECTORY_SIZE - 0xFFFF);
+        for (int i = limit - END_OF_CENTRAL_DIRECTORY_SIZE; i >= minimum; i--) {
+            if (buffer.getInt(i) == END_OF_CENTRAL_DIRECTORY) {
+                end = i;
+                break;
+            }
+        }
+        if (end < 0) {
+            throw new ZipException("Fim do diretório central não encontrado: " + location);
+        }
+
+        long centralDirectorySize = Integer.toUnsignedLong(buffer.getInt(end + 12));
+        long centralDirectoryOffset = Integer.toUnsignedLong(buffer.getInt(end + 16));
+        long centralDirectoryPosition = end - centralDirectorySize;
+
+        if (centralDirectorySize == ZIP64_MAGIC || centralDirectoryOffset == ZIP64_MAGIC
+                || (end >= 20 && buffer.getInt(end - 20) == ZIP64_LOCATOR)) {
+            int locator = end - 20;
+            if (locator >= 0 && buffer.getInt(locator) == ZIP64_LOCATOR) {
+                long zip64End = buffer.getLong(locator + 8);
+                if (zip64End >= 0 && zip64End + 56 <= limit && buffer.getInt((int) zip64End) == ZIP64_END_OF_CENTRAL_DIRECTORY) {
+                    centralDirectorySize = buffer.getLong((int) zip64End + 40);
+                    centralDirectoryOffset = buffer.getLong((int) zip64End + 48);
+                    centralDirectoryPosition = zip64End - centralDirectorySize;
+                }
+            }
+        }
+
+        if (centralDirectoryPosition < 0 || centralDirectoryPosition > limit) {
+            throw new ZipException("Diretório central inválido: " + location);
+        }
+        long baseOffset = centralDirectoryPosition - centralDirectoryOffset;
+
+        int[] entries = new int[16];
+        int count = 0;
+        int position = (int) centralDirectoryPosition;
+        int centralDirectoryEnd = (int) (centralDirectoryPosition + centralDirectorySize);
+        while (position + CENTRAL_HEADER_SIZE <= centralDirectoryEnd && buffer.getInt(position) == CENTRAL_HEADER) {
+            if (count == entries.length) entries = Arrays.copyOf(entries, count * 2);
+            entries[count++] = position;
+            position += CENTRAL_HEADER_SIZE
+                    + (buffer.getShort(position + 28) & 0xFFFF)
+                    + (buffer.getShort(position + 30) & 0xFFFF)
+                    + (buffer.getShort(position + 32) & 0xFFFF);
+        }
+        return new MappedZipFile(location, buffer, Arrays.copyOf(entries, count), baseOffset);
+    }
+
+    private int dataOffset(int index) throws IOException {
+        long localOffset = u32(entries[index] + 42);
+        if (localOffset == ZIP64_MAGIC) localOffset = zip64Value(index, 2);
+        long local = baseOffset + localOffset;
+        if (local < 0 || local + LOCAL_HEADER_SIZE > buffer.limit() || buffer.getInt((int) local) != LOCAL_HEADER) {
+            throw new ZipException("Cabeçalho local inválido: " + getName(index));
+        }
+        int start = (int) local + LOCAL_HEADER_SIZE + u16((int) local + 26) + u16((int) local + 28);
+        if (start + getCompressedSize(index) > buffer.limit()) {
+            throw new ZipException("Entrada fora dos limites do arquivo: " + getName(index));
+        }
+        return start;
+    }
+
+    private long zip64Value(int index, int field) {
+        int offset = entries[index];
+        int extraStart = offset + CENTRAL_HEADER_SIZE + u16(offset + 28);
+        int extraEnd = extraStart + u16(offset + 30);
+        boolean[] present = {
+                u32(offset + 24) == ZIP64_MAGIC,
+                u32(offset + 20) == ZIP64_MAGIC,
+                u32(offset + 42) == ZIP64_MAGIC
+        };
+        int position = extraStart;
+        while (position + 4 <= extraEnd) {
+            int id = u16(position);
+            int size = u16(position + 2);
+            if (id == ZIP64_EXTRA) {
+                int valuePosition = position + 4;
+                for (int i = 0; i < field; i++) {
+                    if (present[i]) valuePosition += 8;
+                }
+                if (valuePosition + 8 <= position + 4 + size) {
+                    return buffer.getLong(valuePosition);
+                }
+                break;
+            }
+            position += 4 + size;
+        }
+        return ZIP64_MAGIC;
+    }
+
+    private int[] sortedEntries() {
+        int[] sorted = sortedEntries;
+        if (sorted == null) {
+            Integer[] order = new Integer[entries.length];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, this::compareNames);
+            sorted = new int[order.length];
+            for (int i = 0; i < order.length; i++) sorted[i] = order[i];
+            sortedEntries = sorted;
+        }
+        return sorted;
+    }
+
+    private int compareNames(int left, int right) {
+        int leftStart = entries[left] + CENTRAL_HEADER_SIZE;
+        int rightStart = entries[right] + CENTRAL_HEADER_SIZE;
+        int leftLength = getNameLength(left);
+        int rightLength = getNameLength(right);
+        int length = Math.min(leftLength, rightLength);
+        for (int i = 0; i < length; i++) {
+            int compare = Byte.compareUnsigned(buffer.get(leftStart + i), buffer.get(rightStart + i));
+            if (compare != 0) return compare;
+        }
+        return Integer.compare(leftLength, rightLength);
+    }
+
+    private int compareToPrefix(int index, byte[] prefix) {
+        int start = entries[index] + CENTRAL_HEADER_SIZE;
+        int nameLength = getNameLength(index);
+        int length = Math.min(nameLength, prefix.length);
+        for (int i = 0; i < length; i++) {
+            int compare = Byte.compareUnsigned(buffer.get(start + i), prefix[i]);
+            if (compare != 0) return compare;
+        }
+        return (nameLength < prefix.length) ? -1 : 0;
+    }
+
+    private boolean regionEquals(int index, int start, byte[] value, boolean ignoreCase) {
+        int offset = entries[index];
+        if (start + value.length > u16(offset + 28)) return false;
+        int nameStart = offset + CENTRAL_HEADER_SIZE + start;
+        for (int i = 0; i < value.length; i++) {
+            byte b = buffer.get(nameStart + i);
+            byte expected = value[i];
+            if (b != expected && !(ignoreCase && toLowerAscii(b) == toLowerAscii(expected))) return false;
+        }
+        return true;
+    }
+
+    private static byte toLowerAscii(byte b) {
+        return (b >= 'A' && b <= 'Z') ? (byte) (b + 32) : b;
+    }
+
+    private int u16(int offset) {
+        return buffer.getShort(offset) & 0xFFFF;
+    }
+
+    private long u32(int offset) {
+        return Integer.toUnsignedLong(buffer.getInt(offset));
+    }
+}
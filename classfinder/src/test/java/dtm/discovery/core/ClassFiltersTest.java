@@ -0,0 +1,84 @@
+package dtm.discovery.core;
+
+import dtm.discovery.finder.bytecode.ClassFileReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassFiltersTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Component {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Component
+    @interface Service {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Service
+    @interface Repository {
+    }
+
+    @Service
+    static class UserService {
+    }
+
+    @Repository
+    static class UserRepository {
+    }
+
+    @Component
+    static class Plain {
+    }
+
+    static class Unrelated {
+    }
+
+    @Test
+    void stereotypeMatchesClassesThroughMetaAnnotations() throws IOException {
+        ClassFilter filter = ClassFilters.stereotypedWith(Component.class);
+
+        assertTrue(filter.matches(header(UserService.class)));
+        assertTrue(filter.matches(header(UserRepository.class)));
+        assertTrue(filter.matches(header(Plain.class)));
+        assertFalse(filter.matches(header(Unrelated.class)));
+        assertTrue(filter.matches(UserRepository.class));
+    }
+
+    @Test
+    void stereotypeSkipsTheAnnotationTypesThemselves() throws IOException {
+        ClassFilter filter = ClassFilters.stereotypedWith(Component.class);
+
+        assertFalse(filter.matches(header(Service.class)));
+        assertFalse(filter.matches(header(Repository.class)));
+        assertFalse(filter.matches(Service.class));
+        assertTrue(filter.matches(header(UserRepository.class)));
+    }
+
+    @Test
+    void annotationFactoriesRejectNulls() {
+        NullPointerException exception = assertThrows(NullPointerException.class,
+                () -> ClassFilters.stereotypedWith(Component.class, null));
+        assertEquals("Anotação nula na lista de anotações", exception.getMessage());
+        assertThrows(NullPointerException.class, () -> ClassFilters.annotatedWithAny((Class<? extends Annotation>[]) null));
+        assertThrows(NullPointerException.class, () -> ClassFilters.annotatedWithAll(Service.class, null));
+    }
+
+    private static ClassInfo header(Class<?> type) throws IOException {
+        String resource = type.getName().substring(type.getPackageName().length() + 1) + ".class";
+        try (InputStream inputStream = type.getResourceAsStream(resource)) {
+            return ClassFileReader.read(inputStream).toClassInfo(null, type.getClassLoader());
+        }
+    }
+}
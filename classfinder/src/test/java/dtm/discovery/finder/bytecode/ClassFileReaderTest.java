@@ -0,0 +1,147 @@
+package dtm.discovery.finder.bytecode;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassFileReaderTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+        String value() default "";
+        int[] numbers() default {};
+        Documented nested() default @Documented;
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Inherited
+    @interface InheritedMarker {
+    }
+
+    @Marker(value = "alvo", numbers = {1, 2})
+    static abstract class Sample implements Serializable, Runnable {
+    }
+
+    interface SampleInterface {
+    }
+
+    enum SampleEnum {
+        A
+    }
+
+    @Test
+    void readsHeaderOfAnnotatedClass() throws IOException {
+        ClassHeader header = ClassFileReader.read(bytesOf(Sample.class));
+
+        assertEquals(Sample.class.getName(), header.getName());
+        assertEquals(Object.class.getName(), header.getSuperName());
+        assertEquals(List.of(Serializable.class.getName(), Runnable.class.getName()), header.getInterfaces());
+        assertTrue(header.hasAnnotation(Marker.class.getName()));
+        assertTrue(header.isAbstract());
+        assertFalse(header.isInterface());
+        assertFalse(header.isEnum());
+    }
+
+    @Test
+    void readsAccessFlagsOfInterfacesEnumsAndAnnotations() throws IOException {
+        assertTrue(ClassFileReader.read(bytesOf(SampleInterface.class)).isInterface());
+        assertTrue(ClassFileReader.read(bytesOf(SampleEnum.class)).isEnum());
+        assertEquals(Enum.class.getName(), ClassFileReader.read(bytesOf(SampleEnum.class)).getSuperName());
+        assertTrue(ClassFileReader.read(bytesOf(Marker.class)).isAnnotation());
+    }
+
+    @Test
+    void objectHasNoSuperclass() throws IOException {
+        try (InputStream inputStream = Object.class.getResourceAsStream("Object.class")) {
+            assertNull(ClassFileReader.read(inputStream).getSuperName());
+        }
+    }
+
+    @Test
+    void readsClassNameOnly() throws IOException {
+        assertEquals(Sample.class.getName(), ClassFileReader.readClassName(bytesOf(Sample.class)));
+    }
+
+    @Test
+    void mayBeAnnotatedWith() throws IOException {
+        byte[] data = bytesOf(Sample.class);
+
+        assertTrue(ClassFileReader.mayBeAnnotatedWith(data, Marker.class));
+        assertFalse(ClassFileReader.mayBeAnnotatedWith(bytesOf(SampleInterface.class), Marker.class));
+        assertTrue(ClassFileReader.mayBeAnnotatedWith(bytesOf(SampleInterface.class), InheritedMarker.class));
+        assertFalse(ClassFileReader.isAnnotationCandidate(InheritedMarker.class));
+    }
+
+    @Test
+    void rejectsWrongMagicNumber() throws IOException {
+        byte[] data = bytesOf(Sample.class);
+        data[0] = 0;
+
+        IOException exception = assertThrows(IOException.class, () -> ClassFileReader.read(data));
+        assertFalse(exception instanceof EOFException);
+        assertThrows(IOException.class, () -> ClassFileReader.readClassName(data));
+    }
+
+    @Test
+    void rejectsUnknownConstantPoolTag() throws IOException {
+        byte[] data = bytesOf(Sample.class);
+        data[10] = (byte) 99;
+
+        assertThrows(IOException.class, () -> ClassFileReader.read(data));
+    }
+
+    @Test
+    void rejectsEmptyInput() {
+        assertThrows(EOFException.class, () -> ClassFileReader.read(new byte[0]));
+        assertThrows(EOFException.class, () -> ClassFileReader.read(new ByteArrayInputStream(new byte[0])));
+        assertThrows(EOFException.class, () -> ClassFileReader.readClassName(new byte[0]));
+    }
+
+    @Test
+    void rejectsEveryTruncation() throws IOException {
+        byte[] data = bytesOf(Sample.class);
+        for (int length = 0; length < data.length; length++) {
+            byte[] truncated = Arrays.copyOf(data, length);
+            assertThrows(IOException.class, () -> ClassFileReader.read(truncated), "tamanho " + length);
+        }
+    }
+
+    @Test
+    void selectsPackageRangeFromSortedHeaders() {
+        List<ClassHeader> sorted = ClassHeader.sortedByName(List.of(
+                header("b.Two"), header("a.One"), header("a.b.Three"), header("c.Four")));
+
+        assertEquals(List.of("a.One", "a.b.Three"), sorted.subList(0, 2).stream().map(ClassHeader::getName).toList());
+        assertEquals(List.of("a.One", "a.b.Three"), ClassHeader.inPackage(sorted, "a.").stream().map(ClassHeader::getName).toList());
+        assertEquals(List.of("a.b.Three"), ClassHeader.inPackage(sorted, "a.b.").stream().map(ClassHeader::getName).toList());
+        assertTrue(ClassHeader.inPackage(sorted, "d.").isEmpty());
+        assertEquals(sorted, ClassHeader.inPackage(sorted, ""));
+    }
+
+    private static ClassHeader header(String name) {
+        return new ClassHeader(name, 0, Object.class.getName(), List.of(), List.of());
+    }
+
+    private static byte[] bytesOf(Class<?> type) throws IOException {
+        String resource = type.getName().substring(type.getPackageName().length() + 1) + ".class";
+        try (InputStream inputStream = type.getResourceAsStream(resource)) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package dtm.discovery.finder.cache;
+
+import dtm.discovery.core.ScanExecutorType;
+import dtm.discovery.finder.bytecode.ClassHeader;
+import dtm.discovery.finder.scheduler.ScanScheduler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class ScanCacheTest {
+
+    static class First implements Serializable {
+    }
+
+    static class Second extends First implements Runnable {
+        @Override
+        public void run() {
+        }
+    }
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void storesAndReloadsSnapshot() throws IOException {
+        Path archive = writeJar(temp.resolve("app.jar"), First.class, Second.class);
+        ScanCache cache = new ScanCache(temp.resolve("cache"));
+
+        ArchiveSnapshot scanned = cache.getOrScan(archive, ScanCacheTest::failOnStore);
+        Path cacheFile = singleCacheFile(cache);
+        ArchiveSnapshot loaded = cache.getOrScan(archive, ScanCacheTest::failOnStore);
+
+        assertEquals(describe(scanned), describe(loaded));
+        assertEquals(List.of("lib/nested.jar"), loaded.getNestedJars());
+        ClassHeader second = loaded.getClasses().stream()
+                .filter(header -> header.getName().equals(Second.class.getName()))
+                .findFirst().orElseThrow();
+        assertEquals(First.class.getName(), second.getSuperName());
+        assertEquals(List.of(Runnable.class.getName()), second.getInterfaces());
+        assertEquals(cacheFile, singleCacheFile(cache));
+    }
+
+    @Test
+    void deletesCacheFileWithInvalidChecksum() throws IOException {
+        Path archive = writeJar(temp.resolve("app.jar"), First.class, Second.class);
+        ScanCache cache = new ScanCache(temp.resolve("cache"));
+        ArchiveSnapshot scanned = cache.getOrScan(archive, ScanCacheTest::failOnStore);
+        Path cacheFile = singleCacheFile(cache);
+        byte[] valid = Files.readAllBytes(cacheFile);
+
+        byte[] corrupted = valid.clone();
+        corrupted[corrupted.length - 1] ^= 0x55;
+        Files.write(cacheFile, corrupted);
+        try (ScanScheduler cancelled = new ScanScheduler(ScanExecutorType.CALLER_RUNS, 1, 64)) {
+            cancelled.cancel();
+            cache.getOrScan(archive, cancelled, ScanCacheTest::failOnStore);
+        }
+
+        assertFalse(Files.exists(cacheFile));
+        cache.getOrScan(archive, ScanCacheTest::failOnStore);
+        assertArrayEquals(valid, Files.readAllBytes(cacheFile));
+        assertEquals(describe(scanned), describe(cache.getOrScan(archive, ScanCacheTest::failOnStore)));
+    }
+
+    @Test
+    void deletesCacheFileWithInvalidHeader() throws IOException {
+        Path archive = writeJar(temp.resolve("app.jar"), First.class);
+        ScanCache cache = new ScanCache(temp.resolve("cache"));
+        cache.getOrScan(archive, ScanCacheTest::failOnStore);
+        Path cacheFile = singleCacheFile(cache);
+        Files.write(cacheFile, new byte[]{1, 2, 3});
+
+        ArchiveSnapshot snapshot = cache.getOrScan(archive, ScanCacheTest::failOnStore);
+
+        assertEquals(List.of(First.class.getName()), names(snapshot));
+        assertTrue(Files.size(cacheFile) > 3);
+    }
+
+    @Test
+    void rescansWhenArchiveChanges() throws IOException {
+        Path archive = writeJar(temp.resolve("app.jar"), First.class);
+        ScanCache cache = new ScanCache(temp.resolve("cache"));
+        assertEquals(List.of(First.class.getName()), names(cache.getOrScan(archive, ScanCacheTest::failOnStore)));
+
+        FileTime lastModified = Files.getLastModifiedTime(archive);
+        writeJar(archive, First.class, Second.class);
+        Files.setLastModifiedTime(archive, lastModified);
+
+        assertEquals(List.of(First.class.getName(), Second.class.getName()),
+                names(cache.getOrScan(archive, ScanCacheTest::failOnStore)));
+    }
+
+    @Test
+    void invalidateRemovesCacheFile() throws IOException {
+        Path archive = writeJar(temp.resolve("app.jar"), First.class);
+        ScanCache cache = new ScanCache(temp.resolve("cache"));
+        cache.getOrScan(archive, ScanCacheTest::failOnStore);
+        Path cacheFile = singleCacheFile(cache);
+
+        cache.invalidate(archive);
+
+        assertFalse(Files.exists(cacheFile));
+    }
+
+    @Test
+    void keepsMalformedClassesInCachedSnapshot() throws IOException {
+        Path archive = temp.resolve("broken.jar");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(archive))) {
+            out.putNextEntry(new ZipEntry(First.class.getName().replace('.', '/') + ".class"));
+            copyClass(First.class, out);
+            out.closeEntry();
+            out.putNextEntry(new ZipEntry("app/Broken.class"));
+            out.write(new byte[]{(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 0, 0});
+            out.closeEntry();
+        }
+        ScanCache cache = new ScanCache(temp.resolve("cache"));
+
+        ArchiveSnapshot scanned = cache.getOrScan(archive, ScanCacheTest::failOnStore);
+        ArchiveSnapshot loaded = cache.getOrScan(archive, ScanCacheTest::failOnStore);
+
+        assertEquals(List.of(First.class.getName()), names(scanned));
+        assertEquals(List.of("app.Broken"), scanned.getMalformedClasses());
+        assertEquals(describe(scanned), describe(loaded));
+        assertEquals(List.of("app.Broken"), loaded.getMalformedClassesInPackage("app"));
+        assertEquals(List.of(), loaded.getMalformedClassesInPackage("other"));
+    }
+
+    @Test
+    void recordsMalformedClassesInDirectories() throws IOException {
+        Path root = temp.resolve("classes");
+        Path valid = root.resolve(First.class.getName().replace('.', '/') + ".class");
+        Files.createDirectories(valid.getParent());
+        try (OutputStream out = Files.newOutputStream(valid)) {
+            copyClass(First.class, out);
+        }
+        Files.createDirectories(root.resolve("app/sub"));
+        Files.write(root.resolve("app/sub/Broken.class"), new byte[]{1, 2, 3});
+
+        ArchiveSnapshot snapshot = ArchiveSnapshot.scan(root);
+
+        assertEquals(List.of(First.class.getName()), names(snapshot));
+        assertEquals(List.of("app.sub.Broken"), snapshot.getMalformedClasses());
+    }
+
+    private static List<String> names(ArchiveSnapshot snapshot) {
+        return snapshot.getClasses().stream().map(ClassHeader::getName).sorted().toList();
+    }
+
+    private static List<String> describe(ArchiveSnapshot snapshot) {
+        List<String> description = new ArrayList<>();
+        for (ClassHeader header : snapshot.getClasses()) {
+            description.add(header.getName() + "|" + header.getAccessFlags() + "|" + header.getSuperName()
+                    + "|" + header.getInterfaces() + "|" + header.getAnnotations());
+        }
+        description.add(snapshot.getNestedJars().toString());
+        description.add(snapshot.getMalformedClasses().toString());
+        return description;
+    }
+
+    private static Path singleCacheFile(ScanCache cache) throws IOException {
+        try (Stream<Path> files = Files.list(cache.getDirectory())) {
+            List<Path> cacheFiles = files.filter(file -> file.toString().endsWith(".scan")).toList();
+            assertEquals(1, cacheFiles.size());
+            return cacheFiles.get(0);
+        }
+    }
+
+    private static void failOnStore(Throwable error) {
+        fail(error);
+    }
+
+    private static Path writeJar(Path jar, Class<?>... classes) throws IOException {
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+            for (Class<?> type : classes) {
+                out.putNextEntry(new ZipEntry(type.getName().replace('.', '/') + ".class"));
+                copyClass(type, out);
+                out.closeEntry();
+            }
+            out.putNextEntry(new ZipEntry("lib/nested.jar"));
+            out.write(new byte[]{'P', 'K'});
+            out.closeEntry();
+        }
+        return jar;
+    }
+
+    private static void copyClass(Class<?> type, OutputStream out) throws IOException {
+        String resource = type.getName().substring(type.getPackageName().length() + 1) + ".class";
+        try (InputStream inputStream = type.getResourceAsStream(resource)) {
+            inputStream.transferTo(out);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package dtm.discovery.finder.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatcherTest {
+
+    @Test
+    void prefixMatcherMatchesDottedAndSlashedNames() {
+        PrefixMatcher matcher = PrefixMatcher.of(List.of("java.", "com.sun", "org.slf4j."));
+
+        assertFalse(matcher.isEmpty());
+        assertTrue(matcher.matches("java.lang.String"));
+        assertTrue(matcher.matches("java/lang/String"));
+        assertTrue(matcher.matches("com.sun.proxy.Proxy"));
+        assertTrue(matcher.matches("com.sunny.App"));
+        assertTrue(matcher.matches("org/slf4j/Logger"));
+        assertFalse(matcher.matches("javax.swing.JFrame"));
+        assertFalse(matcher.matches("java"));
+        assertFalse(matcher.matches("com.su"));
+        assertFalse(matcher.matches("dtm.discovery.App"));
+        assertFalse(matcher.matches(""));
+    }
+
+    @Test
+    void prefixMatcherStepsByState() {
+        PrefixMatcher matcher = PrefixMatcher.of(List.of("dtm.a"));
+        int state = PrefixMatcher.ROOT;
+        for (char c : "dtm/a".toCharArray()) {
+            assertFalse(matcher.isTerminal(state));
+            state = matcher.next(state, c);
+            assertTrue(state >= 0);
+        }
+        assertTrue(matcher.isTerminal(state));
+        assertEquals(-1, matcher.next(PrefixMatcher.ROOT, 'x'));
+    }
+
+    @Test
+    void prefixMatcherHandlesEmptyInput() {
+        assertTrue(PrefixMatcher.of(List.of()).isEmpty());
+        assertTrue(PrefixMatcher.of(null).isEmpty());
+        assertTrue(PrefixMatcher.of(Arrays.asList((String) null)).isEmpty());
+        assertFalse(PrefixMatcher.of(List.of()).matches("java.lang.String"));
+
+        PrefixMatcher everything = PrefixMatcher.of(List.of(""));
+        assertFalse(everything.isEmpty());
+        assertTrue(everything.matches("qualquer.Classe"));
+    }
+
+    @Test
+    void termMatcherFindsOverlappingTerms() {
+        TermMatcher matcher = TermMatcher.of(List.of("he", "she", "his", "hers"));
+
+        assertTrue(matcher.containsAny("ushers"));
+        assertTrue(matcher.containsAny("this"));
+        assertTrue(matcher.containsAny("ahe"));
+        assertFalse(matcher.containsAny("hi"));
+        assertFalse(matcher.containsAny("sh"));
+        assertFalse(matcher.containsAny(""));
+    }
+
+    @Test
+    void termMatcherFollowsFailureLinks() {
+        TermMatcher matcher = TermMatcher.of(List.of("abcd", "bce"));
+
+        assertTrue(matcher.containsAny("xabce"));
+        assertFalse(matcher.containsAny("abcbc"));
+        assertTrue(TermMatcher.of(List.of("aab")).containsAny("aaab"));
+    }
+
+    @Test
+    void termMatcherIgnoresCase() {
+        TermMatcher matcher = TermMatcher.of(List.of("Controller", "TEST"));
+
+        assertTrue(matcher.containsAny("dtm.web.UserCONTROLLER"));
+        assertTrue(matcher.containsAny("dtm.app.MyTestCase"));
+        assertFalse(matcher.containsAny("dtm.app.Service"));
+    }
+
+    @Test
+    void termMatcherHandlesEmptyInput() {
+        assertTrue(TermMatcher.of(List.of()).isEmpty());
+        assertTrue(TermMatcher.of(null).isEmpty());
+        assertFalse(TermMatcher.of(List.of()).containsAny("qualquer"));
+
+        TermMatcher everything = TermMatcher.of(List.of(""));
+        assertFalse(everything.isEmpty());
+        assertTrue(everything.containsAny(""));
+    }
+
+    @Test
+    void matchersAgreeWithNaiveSearch() {
+        Random random = new Random(42);
+        for (int round = 0; round < 500; round++) {
+            List<String> terms = new ArrayList<>();
+            int count = 1 + random.nextInt(5);
+            for (int i = 0; i < count; i++) terms.add(randomText(random, 1 + random.nextInt(4)));
+            String text = randomText(random, random.nextInt(20));
+
+            TermMatcher termMatcher = TermMatcher.of(terms);
+            PrefixMatcher prefixMatcher = PrefixMatcher.of(terms);
+            String lower = text.toLowerCase(Locale.ROOT);
+            boolean contains = terms.stream().anyMatch(term -> lower.contains(term.toLowerCase(Locale.ROOT)));
+            boolean startsWith = terms.stream().anyMatch(text::startsWith);
+
+            assertEquals(contains, termMatcher.containsAny(text), terms + " em " + text);
+            assertEquals(startsWith, prefixMatcher.matches(text), terms + " prefixo de " + text);
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = "abcAB.".charAt(random.nextInt(6));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,93 @@
+package dtm.discovery.finder.index;
+
+import dtm.discovery.finder.bytecode.ClassHeader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassIndexProcessorTest {
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void writesNothingWithoutOption() throws IOException {
+        Path output = compile(List.of(), "public class Sample {}");
+
+        assertTrue(Files.exists(output.resolve("demo/Sample.class")));
+        assertFalse(Files.exists(output.resolve(ClassIndex.LOCATION)));
+    }
+
+    @Test
+    void writesNothingWhenDisabled() throws IOException {
+        Path output = compile(List.of("-A" + ClassIndexProcessor.ENABLED_OPTION + "=false"), "public class Sample {}");
+
+        assertFalse(Files.exists(output.resolve(ClassIndex.LOCATION)));
+    }
+
+    @Test
+    void writesIndexWhenEnabled() throws IOException {
+        Path output = compile(List.of("-A" + ClassIndexProcessor.ENABLED_OPTION + "=true"),
+                "@Deprecated public class Sample implements Runnable { public void run() {} static class Inner {} }");
+
+        try (InputStream inputStream = Files.newInputStream(output.resolve(ClassIndex.LOCATION))) {
+            List<ClassHeader> classes = ClassIndex.read(inputStream).getClasses();
+            assertEquals(List.of("demo.Sample", "demo.Sample$Inner"), classes.stream().map(ClassHeader::getName).toList());
+            assertEquals(List.of(Runnable.class.getName()), classes.get(0).getInterfaces());
+            assertTrue(classes.get(0).hasAnnotation(Deprecated.class.getName()));
+        }
+    }
+
+    @Test
+    void keepsPreviousEntriesOnlyWhileTheirClassFilesExist() throws IOException {
+        List<String> enabled = List.of("-A" + ClassIndexProcessor.ENABLED_OPTION + "=true");
+        compile(enabled, "Other", "public class Other {}");
+        Path output = compile(enabled, "Sample", "public class Sample {}");
+        assertEquals(List.of("demo.Other", "demo.Sample"), indexedNames(output));
+
+        Files.delete(output.resolve("demo/Other.class"));
+        compile(enabled, "Sample", "public class Sample {}");
+        assertEquals(List.of("demo.Sample"), indexedNames(output));
+    }
+
+    private static List<String> indexedNames(Path output) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(output.resolve(ClassIndex.LOCATION))) {
+            return ClassIndex.read(inputStream).getClasses().stream().map(ClassHeader::getName).toList();
+        }
+    }
+
+    private Path compile(List<String> options, String body) throws IOException {
+        return compile(options, "Sample", body);
+    }
+
+    private Path compile(List<String> options, String className, String body) throws IOException {
+        Path sources = Files.createDirectories(temp.resolve("src/demo"));
+        Path output = Files.createDirectories(temp.resolve("out"));
+        Path source = Files.writeString(sources.resolve(className + ".java"), "package demo;\n" + body);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            List<String> arguments = new ArrayList<>(options);
+            arguments.addAll(List.of("-d", output.toString()));
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(source);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, arguments, null, units);
+            task.setProcessors(List.of(new ClassIndexProcessor()));
+            assertTrue(task.call());
+        }
+        return output;
+    }
+}
@@ -0,0 +1,107 @@
+package dtm.discovery.finder.processor;
+
+import dtm.discovery.core.ClassInfo;
+import dtm.discovery.finder.cache.ScanResultCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirectoryProcessorTest {
+
+    private static final List<String> ALL_CLASSES = List.of("Root", "app.Service", "app.sub.Repository");
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void scansEmptyPackageWithoutCache() throws IOException {
+        Path classes = compileClasses();
+
+        assertEquals(ALL_CLASSES, scan(classes, "", null));
+        assertEquals(List.of("app.Service", "app.sub.Repository"), scan(classes.resolve("app"), "app", null));
+    }
+
+    @Test
+    void scansEmptyPackageWithScanResultCache() throws IOException {
+        Path classes = compileClasses();
+        ScanResultCache scanResultCache = new ScanResultCache();
+
+        assertEquals(ALL_CLASSES, scan(classes, "", scanResultCache));
+        assertEquals(ALL_CLASSES, scan(classes, "", scanResultCache));
+        assertEquals(List.of("app.Service", "app.sub.Repository"), scan(classes.resolve("app"), "app", scanResultCache));
+    }
+
+    @Test
+    void loadsClassesFromEmptyPackageWithAndWithoutCache() throws IOException {
+        Path root = temp.resolve("loadable");
+        Path classFile = root.resolve(DirectoryProcessorTest.class.getName().replace('.', '/') + ".class");
+        Files.createDirectories(classFile.getParent());
+        try (InputStream in = DirectoryProcessorTest.class.getResourceAsStream("DirectoryProcessorTest.class")) {
+            Files.copy(in, classFile);
+        }
+
+        assertEquals(Set.of(DirectoryProcessorTest.class), load(root, null));
+        assertEquals(Set.of(DirectoryProcessorTest.class), load(root, new ScanResultCache()));
+    }
+
+    private static List<String> scan(Path root, String packageName, ScanResultCache scanResultCache) {
+        Set<ClassInfo> classInfos = ConcurrentHashMap.newKeySet();
+        List<Throwable> errors = new ArrayList<>();
+
+        DirectoryProcessor processor = new DirectoryProcessor(root.toFile(), packageName, new HashSet<>(), null, scanResultCache);
+        processor.onError(errors::add);
+        processor.acept(null);
+        processor.collectClassInfo(classInfos);
+        try {
+            processor.execute();
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+
+        assertTrue(errors.isEmpty(), errors.toString());
+        return classInfos.stream().map(ClassInfo::getName).sorted().toList();
+    }
+
+    private static Set<Class<?>> load(Path root, ScanResultCache scanResultCache) {
+        Set<Class<?>> processedClasses = ConcurrentHashMap.newKeySet();
+        List<Throwable> errors = new ArrayList<>();
+
+        DirectoryProcessor processor = new DirectoryProcessor(root.toFile(), "", processedClasses, null, scanResultCache);
+        processor.onError(errors::add);
+        processor.acept(null);
+        try {
+            processor.execute();
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+
+        assertTrue(errors.isEmpty(), errors.toString());
+        return processedClasses;
+    }
+
+    private Path compileClasses() throws IOException {
+        Path sourceDirectory = Files.createDirectories(temp.resolve("src"));
+        Path output = Files.createDirectories(temp.resolve("classes"));
+        List<String> arguments = new ArrayList<>(List.of("-proc:none", "-d", output.toString()));
+        arguments.add(Files.writeString(sourceDirectory.resolve("Root.java"), "public class Root {}").toString());
+        arguments.add(Files.writeString(sourceDirectory.resolve("Service.java"), "package app; public class Service {}").toString());
+        arguments.add(Files.writeString(sourceDirectory.resolve("Repository.java"), "package app.sub; public class Repository {}").toString());
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[0])));
+        return output;
+    }
+}
@@ -0,0 +1,82 @@
+package dtm.discovery.finder.processor;
+
+import dtm.discovery.core.ClassFinderConfigurations;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JarProcessorTest {
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void scansWithoutConfigurations() throws IOException {
+        Path jar = jarWithThisClass();
+        Set<Class<?>> processedClasses = ConcurrentHashMap.newKeySet();
+        List<Throwable> errors = new ArrayList<>();
+
+        JarProcessor processor = new JarProcessor(jar.toUri().toURL(), processedClasses, ConcurrentHashMap.newKeySet(), getClass().getPackageName(), null);
+        processor.onError(errors::add);
+        processor.acept(null);
+        execute(processor);
+
+        assertTrue(errors.isEmpty(), errors.toString());
+        assertEquals(Set.of(JarProcessorTest.class), processedClasses);
+    }
+
+    @Test
+    void storesScanCacheInConfiguredDirectory() throws IOException {
+        Path jar = jarWithThisClass();
+        Path cacheDirectory = temp.resolve("cache");
+        ClassFinderConfigurations configurations = new ClassFinderConfigurations() {
+            @Override
+            public Path getScanCacheDirectory() {
+                return cacheDirectory;
+            }
+        };
+        Set<Class<?>> processedClasses = ConcurrentHashMap.newKeySet();
+
+        JarProcessor processor = new JarProcessor(jar.toUri().toURL(), processedClasses, ConcurrentHashMap.newKeySet(), getClass().getPackageName(), configurations);
+        processor.acept(null);
+        execute(processor);
+
+        assertEquals(Set.of(JarProcessorTest.class), processedClasses);
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertEquals(1, files.filter(file -> file.toString().endsWith(".scan")).count());
+        }
+    }
+
+    private static void execute(JarProcessor processor) {
+        try {
+            processor.execute();
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private Path jarWithThisClass() throws IOException {
+        Path jar = temp.resolve("app.jar");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar));
+             InputStream in = JarProcessorTest.class.getResourceAsStream("JarProcessorTest.class")) {
+            out.putNextEntry(new ZipEntry(JarProcessorTest.class.getName().replace('.', '/') + ".class"));
+            in.transferTo(out);
+            out.closeEntry();
+        }
+        return jar;
+    }
+}
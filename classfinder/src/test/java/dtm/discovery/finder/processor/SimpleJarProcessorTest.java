@@ -0,0 +1,142 @@
+package dtm.discovery.finder.processor;
+
+import dtm.discovery.core.ClassFinderConfigurations;
+import dtm.discovery.core.ClassInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimpleJarProcessorTest {
+
+    private static final ClassFinderConfigurations WITH_SUB_JARS = new ClassFinderConfigurations() {
+        @Override
+        public boolean ignoreSubJars() {
+            return false;
+        }
+    };
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void loadsClassesFromStoredAndDeflatedNestedJars() throws IOException {
+        File jar = fatJar();
+        Map<File, Set<Class<?>>> processedClasses = new ConcurrentHashMap<>();
+        List<Throwable> errors = new ArrayList<>();
+
+        SimpleJarProcessor processor = new SimpleJarProcessor(processedClasses, jar, WITH_SUB_JARS);
+        processor.onError(errors::add);
+        processor.acept(null);
+        execute(processor);
+
+        assertTrue(errors.isEmpty(), errors.toString());
+        List<String> names = processedClasses.get(jar).stream().map(Class::getName).sorted().toList();
+        assertEquals(List.of("demo.Outer", "demo.Stored", "demo.Zipped"), names);
+        for (Class<?> clazz : processedClasses.get(jar)) {
+            if (!clazz.getName().equals("demo.Outer")) {
+                assertInstanceOf(NestedJarClassLoader.class, clazz.getClassLoader());
+            }
+        }
+    }
+
+    @Test
+    void collectsClassInfoFromNestedJars() throws Exception {
+        File jar = fatJar();
+        Set<ClassInfo> classInfos = ConcurrentHashMap.newKeySet();
+        List<Throwable> errors = new ArrayList<>();
+
+        SimpleJarProcessor processor = new SimpleJarProcessor(new ConcurrentHashMap<>(), jar, WITH_SUB_JARS);
+        processor.onError(errors::add);
+        processor.acept(null);
+        processor.collectClassInfo(classInfos);
+        execute(processor);
+
+        assertTrue(errors.isEmpty(), errors.toString());
+        ClassInfo stored = classInfos.stream().filter(info -> info.getName().equals("demo.Stored")).findFirst().orElseThrow();
+        assertEquals("demo.Outer", stored.getSuperclassName());
+        assertEquals("demo.Stored", stored.load().getName());
+    }
+
+    private static void execute(SimpleJarProcessor processor) {
+        try {
+            processor.execute();
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private File fatJar() throws IOException {
+        Path classes = compile(
+                "package demo; public class Outer {}",
+                "package demo; public class Stored extends Outer {}",
+                "package demo; public class Zipped extends Outer {}");
+        byte[] stored = jar(Map.of("demo/Stored.class", Files.readAllBytes(classes.resolve("demo/Stored.class"))));
+        byte[] zipped = jar(Map.of("demo/Zipped.class", Files.readAllBytes(classes.resolve("demo/Zipped.class"))));
+
+        Path fatJar = temp.resolve("fat.jar");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(fatJar))) {
+            out.putNextEntry(new ZipEntry("demo/Outer.class"));
+            out.write(Files.readAllBytes(classes.resolve("demo/Outer.class")));
+            out.closeEntry();
+
+            ZipEntry storedEntry = new ZipEntry("lib/stored.jar");
+            storedEntry.setMethod(ZipEntry.STORED);
+            storedEntry.setSize(stored.length);
+            CRC32 crc = new CRC32();
+            crc.update(stored);
+            storedEntry.setCrc(crc.getValue());
+            out.putNextEntry(storedEntry);
+            out.write(stored);
+            out.closeEntry();
+
+            out.putNextEntry(new ZipEntry("lib/zipped.jar"));
+            out.write(zipped);
+            out.closeEntry();
+        }
+        return fatJar.toFile();
+    }
+
+    private Path compile(String... sources) throws IOException {
+        Path sourceDirectory = Files.createDirectories(temp.resolve("src/demo"));
+        Path output = Files.createDirectories(temp.resolve("classes"));
+        List<String> arguments = new ArrayList<>(List.of("-proc:none", "-d", output.toString()));
+        for (String source : sources) {
+            String name = source.substring(source.indexOf("class ") + 6, source.indexOf(' ', source.indexOf("class ") + 6));
+            arguments.add(Files.writeString(sourceDirectory.resolve(name + ".java"), source).toString());
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[0])));
+        return output;
+    }
+
+    private static byte[] jar(Map<String, byte[]> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                out.putNextEntry(new ZipEntry(entry.getKey()));
+                out.write(entry.getValue());
+                out.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,228 @@
+package dtm.discovery.finder.zip;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedZipFileTest {
+
+    private static final byte[] FIRST = "primeiro conteúdo".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SECOND = "segundo conteúdo, um pouco maior".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void readsEntriesFromMappedFile() throws IOException {
+        Path jar = temp.resolve("app.jar");
+        Files.write(jar, zip());
+
+        try (MappedZipFile zipFile = MappedZipFile.open(jar)) {
+            assertEquals(3, zipFile.size());
+            assertEquals("dtm/", zipFile.getName(0));
+            assertTrue(zipFile.isDirectory(0));
+            assertArrayEquals(FIRST, zipFile.getBytes(zipFile.indexOf("dtm/First.class")));
+            assertArrayEquals(SECOND, zipFile.getInputStream(zipFile.indexOf("dtm/Second.txt")).readAllBytes());
+            assertEquals(SECOND.length, zipFile.getSize(zipFile.indexOf("dtm/Second.txt")));
+            assertEquals(-1, zipFile.indexOf("dtm/Missing.class"));
+            assertArrayEquals(new int[]{1}, zipFile.entriesEndingWith(".class".getBytes(StandardCharsets.UTF_8)));
+            assertEquals(3, zipFile.entriesStartingWith("dtm/".getBytes(StandardCharsets.UTF_8)).length);
+        }
+    }
+
+    @Test
+    void readsEntriesAfterPrependedData() throws IOException {
+        byte[] launcher = "#!/bin/sh\nexec java -jar \"$0\" \"$@\"\n".getBytes(StandardCharsets.US_ASCII);
+        byte[] zip = zip();
+        byte[] executable = Arrays.copyOf(launcher, launcher.length + zip.length);
+        System.arraycopy(zip, 0, executable, launcher.length, zip.length);
+
+        MappedZipFile zipFile = MappedZipFile.open("exec.jar", ByteBuffer.wrap(executable));
+
+        assertArrayEquals(FIRST, zipFile.getBytes(zipFile.indexOf("dtm/First.class")));
+        assertArrayEquals(SECOND, zipFile.getBytes(zipFile.indexOf("dtm/Second.txt")));
+    }
+
+    @Test
+    void readsZip64Records() throws IOException {
+        ZipWriter writer = new ZipWriter(true);
+        writer.add("dtm/First.class", FIRST);
+        writer.add("dtm/Second.txt", SECOND);
+
+        MappedZipFile zipFile = MappedZipFile.open("zip64.jar", ByteBuffer.wrap(writer.finish()));
+
+        assertEquals(2, zipFile.size());
+        assertEquals(SECOND.length, zipFile.getSize(1));
+        assertEquals(SECOND.length, zipFile.getCompressedSize(1));
+        assertArrayEquals(FIRST, zipFile.getBytes(0));
+        assertArrayEquals(SECOND, zipFile.getBytes(1));
+        assertEquals(ByteBuffer.wrap(SECOND), zipFile.getStoredData(1));
+    }
+
+    @Test
+    void opensStoredAndDeflatedNestedArchives() throws IOException {
+        byte[] nested = zip();
+        ZipWriter writer = new ZipWriter(false);
+        writer.add("BOOT-INF/lib/stored.jar", nested);
+        ByteArrayOutputStream deflated = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(deflated)) {
+            out.putNextEntry(new ZipEntry("BOOT-INF/lib/deflated.jar"));
+            out.write(nested);
+            out.closeEntry();
+        }
+        Path outer = temp.resolve("outer.jar");
+        Path deflatedOuter = temp.resolve("deflated.jar");
+        Files.write(outer, writer.finish());
+        Files.write(deflatedOuter, deflated.toByteArray());
+
+        try (MappedZipFile zipFile = MappedZipFile.open(outer)) {
+            assertTrue(zipFile.isStored(0));
+            MappedZipFile inner = zipFile.openNested(0);
+            assertEquals(outer + "!/BOOT-INF/lib/stored.jar", inner.getLocation());
+            assertArrayEquals(FIRST, inner.getBytes(inner.indexOf("dtm/First.class")));
+            assertArrayEquals(SECOND, inner.getBytes(inner.indexOf("dtm/Second.txt")));
+        }
+        try (MappedZipFile zipFile = MappedZipFile.open(deflatedOuter)) {
+            assertFalse(zipFile.isStored(0));
+            assertThrows(ZipException.class, () -> zipFile.getStoredData(0));
+            MappedZipFile inner = zipFile.openNested(0);
+            assertArrayEquals(SECOND, inner.getBytes(inner.indexOf("dtm/Second.txt")));
+        }
+    }
+
+    @Test
+    void rejectsMissingEndOfCentralDirectory() throws IOException {
+        byte[] zip = zip();
+        Path truncated = temp.resolve("truncated.jar");
+        Files.write(truncated, Arrays.copyOf(zip, zip.length - 22));
+
+        assertThrows(ZipException.class, () -> MappedZipFile.open(truncated));
+        assertThrows(ZipException.class, () -> MappedZipFile.open("vazio.jar", ByteBuffer.allocate(0)));
+        assertThrows(ZipException.class, () -> MappedZipFile.open("lixo.jar", ByteBuffer.wrap(new byte[64])));
+    }
+
+    @Test
+    void rejectsCorruptEndOfCentralDirectory() throws IOException {
+        byte[] zip = zip();
+        int end = zip.length - 22;
+
+        byte[] oversized = zip.clone();
+        ByteBuffer.wrap(oversized).order(ByteOrder.LITTLE_ENDIAN).putInt(end + 12, zip.length * 2);
+        assertThrows(ZipException.class, () -> MappedZipFile.open("tamanho.jar", ByteBuffer.wrap(oversized)));
+
+        byte[] shifted = zip.clone();
+        ByteBuffer.wrap(shifted).order(ByteOrder.LITTLE_ENDIAN).putInt(end + 16, 1);
+        MappedZipFile zipFile = MappedZipFile.open("deslocado.jar", ByteBuffer.wrap(shifted));
+        assertThrows(ZipException.class, () -> zipFile.getBytes(0));
+    }
+
+    private static byte[] zip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+            out.putNextEntry(new ZipEntry("dtm/"));
+            out.closeEntry();
+            out.putNextEntry(new ZipEntry("dtm/First.class"));
+            out.write(FIRST);
+            out.closeEntry();
+            ZipEntry stored = new ZipEntry("dtm/Second.txt");
+            stored.setMethod(ZipEntry.STORED);
+            stored.setSize(SECOND.length);
+            stored.setCrc(crc(SECOND));
+            out.putNextEntry(stored);
+            out.write(SECOND);
+            out.closeEntry();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static long crc(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return crc.getValue();
+    }
+
+    private static final class ZipWriter {
+        private final boolean zip64;
+        private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream central = new ByteArrayOutputStream();
+        private int count;
+
+        private ZipWriter(boolean zip64) {
+            this.zip64 = zip64;
+        }
+
+        private void add(String name, byte[] content) {
+            byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            long offset = data.size();
+            int size = zip64 ? -1 : content.length;
+
+            ByteBuffer local = buffer(30 + nameBytes.length + (zip64 ? 20 : 0));
+            local.putInt(0x04034b50).putShort((short) 45).putShort((short) 0).putShort((short) 0)
+                    .putInt(0).putInt((int) crc(content)).putInt(size).putInt(size)
+                    .putShort((short) nameBytes.length).putShort((short) (zip64 ? 20 : 0)).put(nameBytes);
+            if (zip64) {
+                local.putShort((short) 1).putShort((short) 16).putLong(content.length).putLong(content.length);
+            }
+            data.writeBytes(local.array());
+            data.writeBytes(content);
+
+            ByteBuffer header = buffer(46 + nameBytes.length + (zip64 ? 28 : 0));
+            header.putInt(0x02014b50).putShort((short) 45).putShort((short) 45).putShort((short) 0).putShort((short) 0)
+                    .putInt(0).putInt((int) crc(content)).putInt(size).putInt(size)
+                    .putShort((short) nameBytes.length).putShort((short) (zip64 ? 28 : 0)).putShort((short) 0)
+                    .putShort((short) 0).putShort((short) 0).putInt(0).putInt(zip64 ? -1 : (int) offset).put(nameBytes);
+            if (zip64) {
+                header.putShort((short) 1).putShort((short) 24)
+                        .putLong(content.length).putLong(content.length).putLong(offset);
+            }
+            central.writeBytes(header.array());
+            count++;
+        }
+
+        private byte[] finish() {
+            long centralOffset = data.size();
+            long centralSize = central.size();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.writeBytes(data.toByteArray());
+            out.writeBytes(central.toByteArray());
+            if (zip64) {
+                long zip64End = out.size();
+                ByteBuffer record = buffer(56);
+                record.putInt(0x06064b50).putLong(44).putShort((short) 45).putShort((short) 45)
+                        .putInt(0).putInt(0).putLong(count).putLong(count).putLong(centralSize).putLong(centralOffset);
+                out.writeBytes(record.array());
+                ByteBuffer locator = buffer(20);
+                locator.putInt(0x07064b50).putInt(0).putLong(zip64End).putInt(1);
+                out.writeBytes(locator.array());
+            }
+            ByteBuffer end = buffer(22);
+            end.putInt(0x06054b50).putShort((short) 0).putShort((short) 0)
+                    .putShort((short) (zip64 ? -1 : count)).putShort((short) (zip64 ? -1 : count))
+                    .putInt(zip64 ? -1 : (int) centralSize).putInt(zip64 ? -1 : (int) centralOffset).putShort((short) 0);
+            out.writeBytes(end.array());
+            return out.toByteArray();
+        }
+
+        private static ByteBuffer buffer(int size) {
+            return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+}
@@ -1,25 +0,0 @@
-package dtm.discovery.core;
-
-import java.io.File;
-import java.net.URL;
-import java.util.Map;
-import java.util.Set;
-
-public interface ClassFinder extends AutoCloseable {
-    Set<Class<?>> find();
-    Set<Class<?>> find(ClassFinderConfigurations configurations);
-    Set<Class<?>> find(Class<?> mainClass);
-    Set<Class<?>> find(Package mainPackage);
-    Set<Class<?>> find(String packageName);
-    Set<Class<?>> find(Class<?> mainClass, ClassFinderConfigurations configurations);
-    Set<Class<?>> find(Package mainPackage, ClassFinderConfigurations configurations);
-    Set<Class<?>> find(String packageName, ClassFinderConfigurations configurations);
-
-    Set<Class<?>> loadByDirectory(String path);
-    Set<Class<?>> loadByDirectory(String path, ClassFinderConfigurations configurations);
-
-    Map<File, Set<Class<?>>> loadGroupedByDirectory(String path);
-    Map<File, Set<Class<?>>> loadGroupedByDirectory(String path, ClassFinderConfigurations configurations);
-
-    Set<Class<?>> getLoadedClasses();
-}
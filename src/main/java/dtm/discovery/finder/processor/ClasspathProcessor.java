@@ -1,78 +0,0 @@
-package dtm.discovery.finder.processor;
-
-import dtm.discovery.core.ClassFinderConfigurations;
-import dtm.discovery.core.Processor;
-import dtm.discovery.stereotips.ClassFinderStereotips;
-
-import java.io.File;
-import java.net.URL;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Set;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
-
-public class ClasspathProcessor implements Processor {
-
-    private final Set<Class<?>> processedClasses;
-    private final Set<String> jarProcessed;
-    private final ClassFinderConfigurations configurations;
-    private Predicate<ClassFinderStereotips> acept;
-    private final String classpath;
-    private final String packageName;
-
-    private Consumer<Throwable> errorAction = e -> {};
-
-    public ClasspathProcessor(
-            Set<Class<?>> processedClasses,
-            Set<String> jarProcessed,
-            String packageName,
-            ClassFinderConfigurations configurations
-    ) {
-        this.processedClasses = processedClasses;
-        this.jarProcessed = jarProcessed;
-        this.configurations = configurations;
-        this.classpath = System.getProperty("java.class.path");
-        this.packageName = packageName;
-    }
-
-    @Override
-    public void execute() throws Exception{
-        List<String> jarPaths = Arrays.stream(classpath.split(";"))
-                .filter(pathJar -> pathJar.endsWith(".jar"))
-                .filter(jarPath -> !ignore(jarPath))
-                .toList();
-
-        if(configurations.ignoreSubJars()) return;
-
-        for (String jarPath : jarPaths){
-            if(jarProcessed.add(jarPath)){
-                File file = new File(jarPath);
-                URL jarUrl = file.toURI().toURL();
-                Processor processor = new JarProcessor(jarUrl, processedClasses, jarProcessed, packageName, configurations);
-                processor.onError(errorAction);
-                processor.acept(acept);
-                processor.execute();
-            }
-        }
-    }
-
-    @Override
-    public void onError(Consumer<Throwable> action) {
-        if(action != null) this.errorAction = action;
-    }
-
-    @Override
-    public void acept(Predicate<ClassFinderStereotips> acept) {
-        this.acept = (acept != null) ? acept : (e) -> true;
-    }
-
-    private boolean ignore(String jarPath){
-        String lowerJarPath = jarPath.toLowerCase();
-        return configurations.getIgnoreJarsTerms()
-                .stream()
-                .map(String::toLowerCase)
-                .anyMatch(lowerJarPath::contains);
-    }
-
-}
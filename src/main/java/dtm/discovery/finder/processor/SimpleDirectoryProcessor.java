@@ -1,157 +0,0 @@
-package dtm.discovery.finder.processor;
-
-import dtm.discovery.core.Processor;
-import dtm.discovery.stereotips.ClassFinderStereotips;
-
-import java.io.File;
-import java.io.IOException;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
-
-public class SimpleDirectoryProcessor implements Processor {
-
-    private final File root;
-    private final ExecutorService executor;
-    private final Map<File, Set<Class<?>>> processedClasses;
-    private Consumer<Throwable> errorAction = e -> {};
-    private Predicate<ClassFinderStereotips> acept;
-
-    public SimpleDirectoryProcessor(File root,  Map<File, Set<Class<?>>> processedClasses) {
-        this.root = root;
-        this.executor = Executors.newVirtualThreadPerTaskExecutor();
-        this.processedClasses = processedClasses;
-    }
-
-    @Override
-    public void execute() throws Exception {
-        List<CompletableFuture<Void>> allTasks = new ArrayList<>();
-
-        if (root.exists() && root.isDirectory()) {
-            search(root.listFiles(), allTasks);
-        }
-
-        CompletableFuture.allOf(allTasks.toArray(new CompletableFuture[0])).join();
-        executor.shutdown();
-    }
-
-    @Override
-    public void onError(Consumer<Throwable> action) {
-        if(action != null) this.errorAction = action;
-    }
-
-    @Override
-    public void acept(Predicate<ClassFinderStereotips> acept) {
-        this.acept = (acept != null) ? acept : (e) -> true;
-    }
-
-    private void search(File[] files, List<CompletableFuture<Void>> tasks){
-        for (File file : files){
-            if(!acept.test(new ClassFinderStereotips() {
-                @Override
-                public URL getArchiverUrl() {
-                    try {
-                        return file.toURI().toURL();
-                    } catch (MalformedURLException e) {
-                       return null;
-                    }
-                }
-
-                @Override
-                public StereotipsProtocols getArchiverProtocol() {
-                    if(file.isDirectory()) return StereotipsProtocols.DIR;
-                    String path = file.getName();
-                    return (file.isFile() && path.endsWith(".jar")) ? StereotipsProtocols.JAR : StereotipsProtocols.FILE;
-                }
-            })) continue;
-            if (file.isDirectory()) {
-                search(file.listFiles(), tasks);
-            } else {
-                tasks.add(CompletableFuture.runAsync(() -> loadFile(file), executor));
-            }
-        }
-    }
-
-    private void loadFile(File file){
-        String path = file.getName();
-        if (path.endsWith(".class")) {
-            loadClassFromClassFile(file, root);
-        } else if (path.endsWith(".jar")) {
-           try{
-               Processor processor = new SimpleJarProcessor(processedClasses, file);
-               processor.onError(errorAction);
-               processor.acept(acept);
-               processor.execute();
-           }catch (Exception e){
-               errorAction.accept(e);
-           }
-        }
-    }
-
-    public void loadClassFromClassFile(File file, File rootDir) {
-        try {
-            File parentDir = file.getParentFile();
-            if (parentDir == null) {
-                throw new IOException("Erro: Caminho inválido.");
-            }
-            List<String> classNames = getPossibleClassNamesFromFile(file, rootDir);
-            for(String className : classNames){
-                try {
-                    Class<?> clazz = Class.forName(className, false, getClass().getClassLoader());
-                    addToProcessedClasses(rootDir, clazz);
-                } catch (ClassNotFoundException e) {
-                    try(URLClassLoader classLoader = getClassLoaderForFile(file)) {
-                        Class<?> clazz = classLoader.loadClass(className);
-                        addToProcessedClasses(rootDir, clazz);
-                    }catch(ClassNotFoundException | NoClassDefFoundError ignored){}
-                }
-            }
-        } catch (Exception e) {
-            errorAction.accept(e);
-        }
-    }
-
-    private List<String> getPossibleClassNamesFromFile(File file, File rootDir) {
-        List<String> names = new ArrayList<>();
-        File currentDir = file.getParentFile();
-        String filePath = file.getAbsolutePath();
-
-        while (currentDir != null && !currentDir.equals(rootDir)) {
-            String basePath = currentDir.getAbsolutePath();
-
-            if (filePath.startsWith(basePath)) {
-                String relativePath = filePath.substring(basePath.length() + 1, filePath.length() - 6);
-
-                String className = relativePath.replace(File.separatorChar, '.');
-
-                names.add(className);
-            }
-
-            currentDir = currentDir.getParentFile();
-        }
-
-        return names;
-    }
-
-    private URLClassLoader getClassLoaderForFile(File file) throws IOException {
-        File parentDir = file.getParentFile();
-        if (parentDir == null) throw new IOException("Diretório pai inválido.");
-        URL url = parentDir.toURI().toURL();
-        return new URLClassLoader(new URL[]{url}, getClass().getClassLoader());
-    }
-
-    private void addToProcessedClasses(File rootDir, Class<?> clazz) {
-        this.processedClasses.computeIfAbsent(rootDir, k -> ConcurrentHashMap.newKeySet()).add(clazz);
-    }
-
-}